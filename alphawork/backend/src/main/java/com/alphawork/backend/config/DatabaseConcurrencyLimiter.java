@@ -0,0 +1,49 @@
+package com.alphawork.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * In virtual-thread mode, wraps the Hikari pool in a {@link ConcurrencyLimitedDataSource}
+ * whose limit matches the pool size (or {@code alphawork.db.max-concurrency} when set),
+ * and whose acquire timeout matches the pool's connection timeout.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyLimiter implements BeanPostProcessor, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConcurrencyLimiter.class);
+
+    private final Environment environment;
+
+    public DatabaseConcurrencyLimiter(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource pool)
+                || !environment.getProperty("alphawork.db.limiter.enabled", Boolean.class, true)) {
+            return bean;
+        }
+        int configured = environment.getProperty("alphawork.db.max-concurrency", Integer.class, 0);
+        int limit = configured > 0 ? configured : pool.getMaximumPoolSize();
+        log.info("Limiting concurrent database connections of '{}' to {}", beanName, limit);
+        return new ConcurrencyLimitedDataSource(pool, limit, pool.getConnectionTimeout());
+    }
+
+    /**
+     * Runs before {@link StatementCountingPostProcessor}, so this still sees the Hikari pool itself.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.alphawork.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request executed, tagged like
+ * http.server.requests with the method and the matched route template, so endpoints
+ * whose query count grows with the data (N+1 loads) stand out.
+ *
+ * <p>With {@code alphawork.sql-budget.guard-enabled}, requests that exceed their
+ * handler's {@link StatementBudget} (or the default budget) are also logged and
+ * counted in alphawork.sql.budget.exceeded.
+ */
+@Component
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestStatementMetricsFilter.class);
+
+    /**
+     * Request attribute holding the statement count once the request has completed.
+     */
+    public static final String STATEMENT_COUNT_ATTRIBUTE = RequestStatementMetricsFilter.class.getName() + ".statements";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${alphawork.sql-budget.guard-enabled:false}")
+    private boolean guardEnabled;
+
+    @Value("${alphawork.sql-budget.default-max:20}")
+    private int defaultBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.end();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = route != null ? route.toString() : "UNKNOWN";
+            DistributionSummary.builder("alphawork.http.server.requests.statements")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (guardEnabled) {
+                int budget = budgetOf(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+                if (statements > budget) {
+                    log.warn("{} {} executed {} SQL statements, budget is {}", request.getMethod(), uri, statements, budget);
+                    Counter.builder("alphawork.sql.budget.exceeded")
+                            .description("Requests that executed more SQL statements than their budget")
+                            .tag("method", request.getMethod())
+                            .tag("uri", uri)
+                            .register(meterRegistry)
+                            .increment();
+                }
+            }
+        }
+    }
+
+    public int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -0,0 +1,15 @@
+package com.alphawork.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduled and @Async work runs on the executors Spring Boot provides, which use
+ * virtual threads when spring.threads.virtual.enabled is set (the "virtual" profile).
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
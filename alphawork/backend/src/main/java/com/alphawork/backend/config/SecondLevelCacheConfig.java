@@ -0,0 +1,83 @@
+package com.alphawork.backend.config;
+
+import com.alphawork.backend.domain.entity.Board;
+import com.alphawork.backend.domain.entity.Organization;
+import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.domain.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache on a local Caffeine JCache provider, for the reference
+ * entities every issue read resolves (Project, Board, Sprint, User, and Organization
+ * behind Project) and for the cacheable board and sprint list queries.
+ *
+ * <p>Every region is declared here with a size bound and a time-to-live, and Hibernate
+ * is told to fail on any other region, so nothing can end up in an unbounded cache by
+ * accident. The TTL only limits how long rows changed behind Hibernate's back can be
+ * served; writes through JPA evict or update the entries themselves. The update
+ * timestamps region, which invalidates cached query results, must never lose entries
+ * and is left unbounded; it holds one entry per table.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final List<Class<?>> CACHED_ENTITIES =
+            List.of(Organization.class, Project.class, Board.class, Sprint.class, User.class);
+
+    @Value("${alphawork.entity-cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${alphawork.entity-cache.query-max-entries:2000}")
+    private long queryMaxEntries;
+
+    @Value("${alphawork.entity-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (Class<?> entity : CACHED_ENTITIES) {
+            cacheManager.createCache(entity.getName(), bounded(maxEntries));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, bounded(queryMaxEntries));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, unbounded());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> bounded(long size) {
+        CaffeineConfiguration<Object, Object> configuration = unbounded();
+        configuration.setMaximumSize(OptionalLong.of(size));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        return configuration;
+    }
+
+    private static CaffeineConfiguration<Object, Object> unbounded() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,31 @@
+package com.alphawork.backend.config;
+
+/**
+ * Per-thread count of SQL statements executed through {@link StatementCountingDataSource}.
+ * Counting only happens between {@link #begin()} and {@link #end()} on the same thread,
+ * which covers JPA and JdbcTemplate alike since both go through the DataSource.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.alphawork.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request to the annotated handler may execute,
+ * independent of how much data it returns. Checked at runtime by
+ * {@link RequestStatementMetricsFilter} when the guard is enabled, and asserted for every
+ * GET endpoint by StatementBudgetTest. Handlers without it get
+ * {@code alphawork.sql-budget.default-max}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+    int value();
+}
@@ -0,0 +1,96 @@
+package com.alphawork.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Reports every statement execution to {@link SqlStatementCounter}. A JDBC batch is one
+ * round trip and counts once. Connections and statements are wrapped in thin proxies
+ * that forward everything else untouched.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> CREATE_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ForwardingHandler(connection) {
+                    @Override
+                    Object forward(Object proxy, Method method, Object[] args) throws Throwable {
+                        Object result = super.forward(proxy, method, args);
+                        if (CREATE_METHODS.contains(method.getName()) && result instanceof Statement statement) {
+                            return wrap(statement, method.getReturnType(), (Connection) proxy);
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    private static Object wrap(Statement statement, Class<?> type, Connection connection) {
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{type},
+                new ForwardingHandler(statement) {
+                    @Override
+                    Object forward(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (EXECUTE_METHODS.contains(method.getName())) {
+                            SqlStatementCounter.increment();
+                        } else if (method.getName().equals("getConnection")) {
+                            return connection;
+                        }
+                        return super.forward(proxy, method, args);
+                    }
+                });
+    }
+
+    private static class ForwardingHandler implements InvocationHandler {
+        private final Object target;
+
+        ForwardingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : forward(proxy, method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) forward(proxy, method, args);
+                default -> forward(proxy, method, args);
+            };
+        }
+
+        Object forward(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
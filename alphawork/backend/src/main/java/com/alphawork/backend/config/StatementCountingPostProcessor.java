@@ -0,0 +1,37 @@
+package com.alphawork.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link StatementCountingDataSource}. Runs last,
+ * so it sits outside any other DataSource wrapper and counts what the application
+ * actually executes.
+ */
+@Component
+public class StatementCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final Environment environment;
+
+    public StatementCountingPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource
+                || !environment.getProperty("alphawork.db.statement-counting.enabled", Boolean.class, true)) {
+            return bean;
+        }
+        return new StatementCountingDataSource(dataSource);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
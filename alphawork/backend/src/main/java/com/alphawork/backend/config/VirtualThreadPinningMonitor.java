@@ -0,0 +1,169 @@
+package com.alphawork.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches the JDK's own flight-recorder events for virtual threads that block while
+ * pinned to their carrier (inside {@code synchronized} or a native frame) and for
+ * virtual threads the scheduler failed to start.
+ *
+ * <p>Pinning whose stack passes through our code is logged with the stack and counted
+ * per location, so the offending method shows up in metrics; pinning entirely inside
+ * libraries is counted under {@code location=library}. Each location is logged on its
+ * first occurrence and then every {@code log-every} occurrences.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String APPLICATION_PACKAGE = "com.alphawork.";
+    private static final String LIBRARY_LOCATION = "library";
+
+    @Value("${alphawork.virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    @Value("${alphawork.virtual-threads.pinning.log-every:100}")
+    private long logEvery;
+
+    @Value("${alphawork.virtual-threads.pinning.stack-depth:64}")
+    private int stackDepth;
+
+    private final Map<String, AtomicLong> occurrences = new ConcurrentHashMap<>();
+    private final AtomicLong submitFailures = new AtomicLong();
+    private volatile MeterRegistry registry;
+    private RecordingStream stream;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            recording.enable(SUBMIT_FAILED_EVENT);
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailures.incrementAndGet());
+            recording.startAsync();
+            stream = recording;
+            running = true;
+            log.info("Virtual threads enabled, reporting carrier pinning longer than {}ms", thresholdMs);
+        } catch (RuntimeException e) {
+            // Flight recorder can be unavailable (e.g. -XX:-FlightRecorder); the app runs fine without it
+            log.warn("Could not start virtual thread pinning monitor: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("alphawork.virtual-threads.carrier.parallelism", VirtualThreadPinningMonitor::carrierParallelism)
+                .description("Carrier threads available to run virtual threads")
+                .register(registry);
+        Gauge.builder("alphawork.virtual-threads.carrier.max-pool-size", VirtualThreadPinningMonitor::carrierMaxPoolSize)
+                .description("Carrier threads the scheduler may add to compensate for pinning")
+                .register(registry);
+        Gauge.builder("alphawork.virtual-threads.pinned.locations", occurrences, Map::size)
+                .description("Distinct code locations seen pinning a carrier thread")
+                .register(registry);
+        FunctionCounter.builder("alphawork.virtual-threads.submit.failed", submitFailures, AtomicLong::doubleValue)
+                .description("Virtual threads the scheduler could not start")
+                .register(registry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event);
+        String location = applicationLocation(frames);
+        long count = occurrences.computeIfAbsent(location, key -> new AtomicLong()).incrementAndGet();
+
+        MeterRegistry meters = registry;
+        if (meters != null) {
+            Timer.builder("alphawork.virtual-threads.pinned")
+                    .description("Time virtual threads spent blocked while pinned to a carrier")
+                    .tag("location", location)
+                    .register(meters)
+                    .record(event.getDuration());
+        }
+
+        if (!LIBRARY_LOCATION.equals(location) && (count == 1 || count % logEvery == 0)) {
+            StringBuilder stack = new StringBuilder();
+            for (RecordedFrame frame : frames) {
+                stack.append("\n\tat ").append(describe(frame)).append(':').append(frame.getLineNumber());
+            }
+            log.warn("Virtual thread pinned its carrier for {}ms in {} ({} times so far){}",
+                    event.getDuration().toMillis(), location, count, stack);
+        }
+    }
+
+    private List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.size() > stackDepth ? frames.subList(0, stackDepth) : frames;
+    }
+
+    /**
+     * The innermost frame of our own code, which is where the pinning is fixable even
+     * when the blocking call itself happens deeper inside a library.
+     */
+    private static String applicationLocation(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return LIBRARY_LOCATION;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+    }
+
+    private static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    private static int carrierMaxPoolSize() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.maxPoolSize", Math.max(carrierParallelism(), 256));
+    }
+}
@@ -0,0 +1,43 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.AuditLogDTO;
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.service.AuditLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @GetMapping
+    @StatementBudget(1)
+    @PreAuthorize("hasRole('ORG_HEAD')")
+    public ResponseEntity<CursorPage<AuditLogDTO>> getAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<AuditLogDTO> logs;
+        if (entityId != null || entityType != null) {
+            logs = auditLogService.getAuditLogsForEntity(entityType, entityId, from, to, cursor, limit);
+        } else if (userId != null) {
+            logs = auditLogService.getAuditLogsForUser(userId, from, to, cursor, limit);
+        } else {
+            logs = auditLogService.getAuditLogs(from, to, cursor, limit);
+        }
+        return ResponseEntity.ok(logs);
+    }
+}
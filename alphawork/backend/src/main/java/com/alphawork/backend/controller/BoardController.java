@@ -1,8 +1,12 @@
 package com.alphawork.backend.controller;
 
+import com.alphawork.backend.config.StatementBudget;
 import com.alphawork.backend.dto.BoardDTO;
+import com.alphawork.backend.dto.BoardVelocityDTO;
 import com.alphawork.backend.service.BoardService;
+import com.alphawork.backend.service.SprintAnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +20,9 @@ public class BoardController {
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private SprintAnalyticsService sprintAnalyticsService;
+
     @PostMapping
     public ResponseEntity<BoardDTO> createBoard(@RequestBody BoardDTO dto,
                                                @RequestHeader String projectId) {
@@ -24,21 +31,33 @@ public class BoardController {
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<BoardDTO>> getBoardsByProject(@PathVariable String projectId) {
-        List<BoardDTO> boards = boardService.getBoardsByProject(projectId);
+    @StatementBudget(2)
+    public ResponseEntity<List<BoardDTO>> getBoardsByProject(@PathVariable String projectId,
+                                                             @RequestParam(required = false) String fields) {
+        List<BoardDTO> boards = boardService.getBoardsByProject(projectId, fields);
         return ResponseEntity.ok(boards);
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(1)
     public ResponseEntity<BoardDTO> getBoard(@PathVariable String id) {
         BoardDTO board = boardService.getBoard(id);
-        return ResponseEntity.ok(board);
+        return ResponseEntity.ok().eTag(EntityTags.of(board.getVersion())).body(board);
+    }
+
+    @GetMapping("/{id}/velocity")
+    @StatementBudget(1)
+    public ResponseEntity<BoardVelocityDTO> getVelocity(@PathVariable String id,
+                                                        @RequestParam(defaultValue = "5") int sprints) {
+        BoardVelocityDTO velocity = sprintAnalyticsService.getVelocity(id, Math.max(1, Math.min(sprints, 50)));
+        return ResponseEntity.ok(velocity);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<BoardDTO> updateBoard(@PathVariable String id, @RequestBody BoardDTO dto) {
-        BoardDTO updated = boardService.updateBoard(id, dto);
-        return ResponseEntity.ok(updated);
+    public ResponseEntity<BoardDTO> updateBoard(@PathVariable String id, @RequestBody BoardDTO dto,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        BoardDTO updated = boardService.updateBoard(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
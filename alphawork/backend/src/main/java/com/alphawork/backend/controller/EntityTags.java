@@ -0,0 +1,37 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.exception.PreconditionFailedException;
+
+/**
+ * Strong ETags for versioned entities. The tag is the row version, so clients send it
+ * back in If-Match and the service turns it into the version predicate of its UPDATE.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The version a conditional update expects, or null when the request is
+     * unconditional (no If-Match, or If-Match: *).
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            // Weak or multiple tags never match a strong comparison on a single version
+            throw new PreconditionFailedException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match " + tag + " does not match");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.ImportJobDTO;
+import com.alphawork.backend.service.ProjectImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private ProjectImportService projectImportService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ORG_HEAD') or hasRole('TEAM_LEAD')")
+    public ResponseEntity<ImportJobDTO> createJob(@RequestHeader String projectId, Authentication authentication) {
+        ImportJobDTO job = projectImportService.createJob(projectId, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(job);
+    }
+
+    /**
+     * Streams the records into the job; NDJSON, a JSON array or CSV with a header row.
+     * Sending the same upload again after an interruption resumes at the checkpoint.
+     */
+    @PostMapping(value = "/{id}/records",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE, TEXT_CSV_VALUE})
+    @PreAuthorize("hasRole('ORG_HEAD') or hasRole('TEAM_LEAD')")
+    public ResponseEntity<ImportJobDTO> importRecords(@PathVariable String id, HttpServletRequest request)
+            throws IOException {
+        ProjectImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                ? ProjectImportService.Format.CSV
+                : ProjectImportService.Format.NDJSON;
+        ImportJobDTO job = projectImportService.importRecords(id, request.getInputStream(), format);
+        return ResponseEntity.ok(job);
+    }
+
+    @GetMapping("/{id}")
+    @StatementBudget(1)
+    public ResponseEntity<ImportJobDTO> getJob(@PathVariable String id) {
+        ImportJobDTO job = projectImportService.getJob(id);
+        return ResponseEntity.ok(job);
+    }
+}
@@ -1,14 +1,28 @@
 package com.alphawork.backend.controller;
 
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.BulkIssueResult;
+import com.alphawork.backend.dto.BulkIssueUpdateRequest;
+import com.alphawork.backend.dto.BulkIssueUpdateResult;
+import com.alphawork.backend.dto.CursorPage;
 import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.dto.MoveIssueRequest;
+import com.alphawork.backend.service.BoardSnapshotCache;
+import com.alphawork.backend.service.IssueBulkService;
 import com.alphawork.backend.service.IssueService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/issues")
@@ -17,41 +31,90 @@ public class IssueController {
     @Autowired
     private IssueService issueService;
 
+    @Autowired
+    private IssueBulkService issueBulkService;
+
+    @Autowired
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<IssueDTO> createIssue(@RequestBody IssueDTO dto) {
         IssueDTO created = issueService.createIssue(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Accepts either a JSON array or newline-delimited JSON. The body is read
+     * incrementally, so large migrations are never held in memory as a whole.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkIssueResult> createIssues(HttpServletRequest request) throws IOException {
+        try (MappingIterator<IssueDTO> issues = objectMapper.readerFor(IssueDTO.class)
+                .readValues(request.getInputStream())) {
+            BulkIssueResult result = issueBulkService.createIssues(issues);
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkIssueUpdateResult> updateIssues(@RequestBody BulkIssueUpdateRequest request) {
+        BulkIssueUpdateResult result = issueBulkService.updateIssues(request);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/board/{boardId}")
-    public ResponseEntity<List<IssueDTO>> getIssuesByBoard(@PathVariable String boardId) {
-        List<IssueDTO> issues = issueService.getIssuesByBoard(boardId);
+    @StatementBudget(1)
+    public ResponseEntity<CursorPage<IssueDTO>> getIssuesByBoard(@PathVariable String boardId,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                @RequestParam(required = false) String fields,
+                                                                WebRequest request) {
+        if (request.checkNotModified(boardSnapshotCache.etag(BoardSnapshotCache.ISSUES, boardId))) {
+            return null;
+        }
+        CursorPage<IssueDTO> issues = issueService.getIssuesByBoard(boardId, cursor, limit, fields);
         return ResponseEntity.ok(issues);
     }
 
     @GetMapping("/sprint/{sprintId}")
-    public ResponseEntity<List<IssueDTO>> getIssuesBySprint(@PathVariable String sprintId) {
-        List<IssueDTO> issues = issueService.getIssuesBySprint(sprintId);
+    @StatementBudget(1)
+    public ResponseEntity<CursorPage<IssueDTO>> getIssuesBySprint(@PathVariable String sprintId,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer limit,
+                                                                 @RequestParam(required = false) String fields) {
+        CursorPage<IssueDTO> issues = issueService.getIssuesBySprint(sprintId, cursor, limit, fields);
         return ResponseEntity.ok(issues);
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(1)
     public ResponseEntity<IssueDTO> getIssue(@PathVariable String id) {
         IssueDTO issue = issueService.getIssue(id);
-        return ResponseEntity.ok(issue);
+        return ResponseEntity.ok().eTag(EntityTags.of(issue.getVersion())).body(issue);
     }
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<IssueDTO> updateStatus(@PathVariable String id, 
-                                                @RequestParam String status) {
-        IssueDTO updated = issueService.updateIssueStatus(id, status);
-        return ResponseEntity.ok(updated);
+                                                @RequestParam String status,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        IssueDTO updated = issueService.updateIssueStatus(id, status, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<IssueDTO> updateIssue(@PathVariable String id, @RequestBody IssueDTO dto) {
-        IssueDTO updated = issueService.updateIssue(id, dto);
-        return ResponseEntity.ok(updated);
+    public ResponseEntity<IssueDTO> updateIssue(@PathVariable String id, @RequestBody IssueDTO dto,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        IssueDTO updated = issueService.updateIssue(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+    }
+
+    @PostMapping("/{id}/move")
+    public ResponseEntity<IssueDTO> moveIssue(@PathVariable String id, @RequestBody MoveIssueRequest request) {
+        IssueDTO moved = issueService.moveIssue(id, request);
+        return ResponseEntity.ok(moved);
     }
 
     @DeleteMapping("/{id}")
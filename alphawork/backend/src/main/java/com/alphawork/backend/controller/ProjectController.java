@@ -1,14 +1,23 @@
 package com.alphawork.backend.controller;
 
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.CursorPage;
 import com.alphawork.backend.dto.ProjectDTO;
+import com.alphawork.backend.dto.ProjectSummaryDTO;
+import com.alphawork.backend.service.ProjectExportService;
 import com.alphawork.backend.service.ProjectService;
+import com.alphawork.backend.service.ProjectSummaryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -17,6 +26,12 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private ProjectSummaryService projectSummaryService;
+
+    @Autowired
+    private ProjectExportService projectExportService;
+
     @PostMapping
     @PreAuthorize("hasRole('ORG_HEAD')")
     public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO dto,
@@ -26,17 +41,58 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getProjects(@RequestHeader String organizationId) {
-        List<ProjectDTO> projects = projectService.getProjectsByOrganization(organizationId);
+    @StatementBudget(2)
+    public ResponseEntity<CursorPage<ProjectDTO>> getProjects(@RequestHeader String organizationId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer limit,
+                                                             @RequestParam(required = false) String fields) {
+        CursorPage<ProjectDTO> projects = projectService.getProjectsByOrganization(organizationId, cursor, limit, fields);
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(1)
     public ResponseEntity<ProjectDTO> getProject(@PathVariable String id) {
         ProjectDTO project = projectService.getProject(id);
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("/{id}/summary")
+    @StatementBudget(2)
+    public ResponseEntity<ProjectSummaryDTO> getSummary(@PathVariable String id) {
+        ProjectSummaryDTO summary = projectSummaryService.getSummary(id);
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * Streams the whole project as NDJSON, gzip-compressed when the client accepts it.
+     * Only the existence check runs on the request thread; the export's queries run
+     * while the body is written.
+     */
+    @GetMapping("/{id}/export")
+    @PreAuthorize("hasRole('ORG_HEAD')")
+    @StatementBudget(1)
+    public ResponseEntity<StreamingResponseBody> exportProject(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        projectExportService.requireProject(id);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out ->
+                projectExportService.export(id, gzip ? new GZIPOutputStream(out, 64 * 1024) : out);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + id + ".ndjson")
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ORG_HEAD') or hasRole('TEAM_LEAD')")
     public ResponseEntity<ProjectDTO> updateProject(@PathVariable String id, @RequestBody ProjectDTO dto) {
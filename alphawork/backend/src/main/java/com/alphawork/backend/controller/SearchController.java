@@ -0,0 +1,28 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.dto.SearchResultDTO;
+import com.alphawork.backend.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    @StatementBudget(1)
+    public ResponseEntity<CursorPage<SearchResultDTO>> search(@RequestParam String q,
+                                                              @RequestParam(required = false) String projectId,
+                                                              @RequestParam(required = false) String organizationId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer limit) {
+        CursorPage<SearchResultDTO> results = searchService.search(q, projectId, organizationId, cursor, limit);
+        return ResponseEntity.ok(results);
+    }
+}
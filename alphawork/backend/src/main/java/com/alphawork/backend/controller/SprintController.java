@@ -1,13 +1,18 @@
 package com.alphawork.backend.controller;
 
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.dto.SprintBurndownDTO;
 import com.alphawork.backend.dto.SprintDTO;
+import com.alphawork.backend.service.BoardSnapshotCache;
+import com.alphawork.backend.service.SprintAnalyticsService;
 import com.alphawork.backend.service.SprintService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/sprints")
@@ -16,6 +21,12 @@ public class SprintController {
     @Autowired
     private SprintService sprintService;
 
+    @Autowired
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @Autowired
+    private SprintAnalyticsService sprintAnalyticsService;
+
     @PostMapping
     public ResponseEntity<SprintDTO> createSprint(@RequestBody SprintDTO dto) {
         SprintDTO created = sprintService.createSprint(dto);
@@ -23,21 +34,38 @@ public class SprintController {
     }
 
     @GetMapping("/board/{boardId}")
-    public ResponseEntity<List<SprintDTO>> getSprintsByBoard(@PathVariable String boardId) {
-        List<SprintDTO> sprints = sprintService.getSprintsByBoard(boardId);
+    @StatementBudget(2)
+    public ResponseEntity<CursorPage<SprintDTO>> getSprintsByBoard(@PathVariable String boardId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  WebRequest request) {
+        if (request.checkNotModified(boardSnapshotCache.etag(BoardSnapshotCache.SPRINTS, boardId))) {
+            return null;
+        }
+        CursorPage<SprintDTO> sprints = sprintService.getSprintsByBoard(boardId, cursor, limit, fields);
         return ResponseEntity.ok(sprints);
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(1)
     public ResponseEntity<SprintDTO> getSprint(@PathVariable String id) {
         SprintDTO sprint = sprintService.getSprint(id);
-        return ResponseEntity.ok(sprint);
+        return ResponseEntity.ok().eTag(EntityTags.of(sprint.getVersion())).body(sprint);
+    }
+
+    @GetMapping("/{id}/burndown")
+    @StatementBudget(2)
+    public ResponseEntity<SprintBurndownDTO> getBurndown(@PathVariable String id) {
+        SprintBurndownDTO burndown = sprintAnalyticsService.getBurndown(id);
+        return ResponseEntity.ok(burndown);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<SprintDTO> updateSprint(@PathVariable String id, @RequestBody SprintDTO dto) {
-        SprintDTO updated = sprintService.updateSprint(id, dto);
-        return ResponseEntity.ok(updated);
+    public ResponseEntity<SprintDTO> updateSprint(@PathVariable String id, @RequestBody SprintDTO dto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        SprintDTO updated = sprintService.updateSprint(id, dto, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,52 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.config.StatementBudget;
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.dto.TimeLogDTO;
+import com.alphawork.backend.service.TimeLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/time-logs")
+public class TimeLogController {
+
+    @Autowired
+    private TimeLogService timeLogService;
+
+    @PostMapping
+    public ResponseEntity<TimeLogDTO> logTime(@RequestBody TimeLogDTO dto, Authentication authentication) {
+        TimeLogDTO logged = timeLogService.logTime(authentication.getName(), dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(logged);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TimeLogDTO>> logTimeBatch(@RequestBody List<TimeLogDTO> dtos,
+                                                         Authentication authentication) {
+        List<TimeLogDTO> logged = timeLogService.logTime(authentication.getName(), dtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(logged);
+    }
+
+    @GetMapping("/issue/{issueId}")
+    @StatementBudget(1)
+    public ResponseEntity<CursorPage<TimeLogDTO>> getTimeLogsByIssue(@PathVariable String issueId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer limit) {
+        CursorPage<TimeLogDTO> logs = timeLogService.getTimeLogsByIssue(issueId, cursor, limit);
+        return ResponseEntity.ok(logs);
+    }
+
+    @GetMapping("/user/{userId}")
+    @StatementBudget(1)
+    public ResponseEntity<CursorPage<TimeLogDTO>> getTimeLogsByUser(@PathVariable String userId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit) {
+        CursorPage<TimeLogDTO> logs = timeLogService.getTimeLogsByUser(userId, cursor, limit);
+        return ResponseEntity.ok(logs);
+    }
+}
@@ -3,12 +3,14 @@ package com.alphawork.backend.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
+@DynamicUpdate
 @Table(name = "issues")
 @Data
 @NoArgsConstructor
@@ -55,15 +57,19 @@ public class Issue {
     @Column(nullable = false)
     private Integer timeSpentHours = 0;
 
-    @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "issue")
     private List<TimeLog> timeLogs = new ArrayList<>();
 
-    @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "issue")
     private List<Note> notes = new ArrayList<>();
 
     @Column(nullable = false)
     private Integer orderInColumn = 0;
 
+    // Board position, see RankKeys; supersedes orderInColumn for ordering
+    @Column(nullable = false)
+    private String rankKey;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -72,6 +78,10 @@ public class Issue {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum IssueType {
         TASK, STORY, BUG
     }
@@ -2,7 +2,10 @@ package com.alphawork.backend.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -10,6 +13,9 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "sprints")
 @Data
 @NoArgsConstructor
@@ -51,6 +57,10 @@ public class Sprint {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum SprintStatus {
         PLANNING, ACTIVE, COMPLETED, CANCELLED
     }
@@ -0,0 +1,26 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditLogDTO {
+    private String id;
+    private String userId;
+    private String action;
+    private String entityType;
+    private String entityId;
+    private String beforeState;
+    private String afterState;
+    private String description;
+    private LocalDateTime timestamp;
+}
@@ -20,4 +20,5 @@ public class BoardDTO {
     private String type;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
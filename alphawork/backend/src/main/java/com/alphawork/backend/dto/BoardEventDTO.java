@@ -0,0 +1,35 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardEventDTO {
+    private String boardId;
+    private List<Change> changes;
+
+    /**
+     * One issue's net change. Creations carry the card fields, updates only the
+     * properties whose values changed, with null for a cleared one, and deletions none.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Change {
+        private String type;
+        private String issueId;
+        private Long version;
+        private Map<String, Object> fields;
+    }
+}
@@ -0,0 +1,34 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardVelocityDTO {
+    private String boardId;
+    private List<SprintVelocity> sprints;
+    private Double averageCompletedHours;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SprintVelocity {
+        private String sprintId;
+        private String name;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Integer committedHours;
+        private Integer completedHours;
+    }
+}
@@ -0,0 +1,40 @@
+package com.alphawork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects issues either by ids or by filter (not both) and applies the non-null
+ * changes to all of them. unassign and removeFromSprint clear the assignee or sprint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIssueUpdateRequest {
+    private List<String> ids;
+    private Filter filter;
+
+    private String status;
+    private String assigneeId;
+    private Boolean unassign;
+    private String sprintId;
+    private Boolean removeFromSprint;
+    private Integer estimateHours;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Filter {
+        private String projectId;
+        private String boardId;
+        private String sprintId;
+        private String status;
+        private String assigneeId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.alphawork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIssueUpdateResult {
+    private int affected;
+    private List<String> issueIds;
+}
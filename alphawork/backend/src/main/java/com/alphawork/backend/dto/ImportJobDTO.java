@@ -0,0 +1,35 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of a project import. recordsCommitted counts records of the upload that
+ * are done, imported or rejected; sending the upload again resumes after them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDTO {
+    private String id;
+    private String projectId;
+    private String status;
+    private long recordsCommitted;
+    private long recordsFailed;
+    private long issuesImported;
+    private long notesImported;
+    private long timeLogsImported;
+    private String message;
+    private List<BulkIssueResult.ItemError> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,56 @@
+package com.alphawork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One issue of a project import with its notes and time logs. Boards and sprints are
+ * referenced by id or by name, people by email. CSV uploads carry the issue columns
+ * only; notes and time logs need NDJSON.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRecord {
+    private String title;
+    private String description;
+    private String type;
+    private String status;
+    private String boardId;
+    private String board;
+    private String sprintId;
+    private String sprint;
+    private String assigneeEmail;
+    private Integer estimateHours;
+    private Integer timeSpentHours;
+    private LocalDateTime createdAt;
+    private List<Note> notes;
+    private List<TimeLog> timeLogs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Note {
+        private String authorEmail;
+        private String content;
+        private LocalDateTime createdAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TimeLog {
+        private String userEmail;
+        private Integer hoursSpent;
+        private String notes;
+        private LocalDateTime createdAt;
+    }
+}
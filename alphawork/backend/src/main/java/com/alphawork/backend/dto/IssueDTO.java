@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class IssueDTO {
     private String id;
@@ -27,6 +27,8 @@ public class IssueDTO {
     private Integer estimateHours;
     private Integer timeSpentHours;
     private Integer orderInColumn;
+    private String rankKey;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
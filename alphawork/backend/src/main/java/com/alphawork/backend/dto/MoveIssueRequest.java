@@ -0,0 +1,20 @@
+package com.alphawork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Target of a drag-and-drop move. previousId and nextId are the cards directly above
+ * and below the drop position in the target column; either is omitted at the top or
+ * bottom, both for an empty column. boardId and status default to the current ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveIssueRequest {
+    private String boardId;
+    private String status;
+    private String previousId;
+    private String nextId;
+}
@@ -0,0 +1,43 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectSummaryDTO {
+    private String projectId;
+    private Totals totals;
+    private List<BoardSummary> boards;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BoardSummary {
+        private String boardId;
+        private String name;
+        private Totals totals;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Totals {
+        private Integer issueCount;
+        private Integer estimateHours;
+        private Integer timeSpentHours;
+        private Map<String, Integer> issuesByStatus;
+        private Map<String, Integer> issuesByType;
+    }
+}
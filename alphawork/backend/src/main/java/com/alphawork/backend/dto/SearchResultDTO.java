@@ -0,0 +1,24 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResultDTO {
+    private String type;
+    private String id;
+    private String issueId;
+    private String projectId;
+    private String boardId;
+    private String status;
+    private String title;
+    private String snippet;
+    private Float rank;
+}
@@ -0,0 +1,35 @@
+package com.alphawork.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SprintBurndownDTO {
+    private String sprintId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Day> days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+        private LocalDate date;
+        private Integer remainingHours;
+        private Integer completedHours;
+        private Integer timeSpentHours;
+        private Map<String, Integer> issuesByStatus;
+    }
+}
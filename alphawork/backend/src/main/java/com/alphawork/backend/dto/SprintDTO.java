@@ -26,4 +26,5 @@ public class SprintDTO {
     private List<String> issueIds;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +17,5 @@ public class TimeLogDTO {
     private String userId;
     private Integer hoursSpent;
     private String notes;
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,37 @@
+package com.alphawork.backend.event;
+
+import com.alphawork.backend.dto.IssueDTO;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever issues on a board are created,
+ * changed or deleted. Each change carries the issue state before and after the write
+ * (before is null for creations, after is null for deletions), which lets listeners
+ * derive deltas without re-reading the issue.
+ */
+public record BoardIssuesChangedEvent(String boardId, List<IssueChange> changes) {
+
+    public static BoardIssuesChangedEvent of(String boardId, IssueChange change) {
+        return new BoardIssuesChangedEvent(boardId, List.of(change));
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public record IssueChange(ChangeType type, String issueId, IssueDTO before, IssueDTO after) {
+
+        public static IssueChange created(IssueDTO after) {
+            return new IssueChange(ChangeType.CREATED, after.getId(), null, after);
+        }
+
+        public static IssueChange updated(IssueDTO before, IssueDTO after) {
+            return new IssueChange(ChangeType.UPDATED, after.getId(), before, after);
+        }
+
+        public static IssueChange deleted(IssueDTO before) {
+            return new IssueChange(ChangeType.DELETED, before.getId(), before, null);
+        }
+    }
+}
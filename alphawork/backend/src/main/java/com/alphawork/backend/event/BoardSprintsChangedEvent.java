@@ -0,0 +1,9 @@
+package com.alphawork.backend.event;
+
+/**
+ * Published inside the writing transaction whenever a sprint on a board is created,
+ * changed or deleted. issuesAffected is set when the write also changes issue rows,
+ * e.g. deleting a sprint detaches its issues.
+ */
+public record BoardSprintsChangedEvent(String boardId, String sprintId, boolean issuesAffected) {
+}
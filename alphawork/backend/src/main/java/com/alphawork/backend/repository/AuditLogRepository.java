@@ -4,10 +4,6 @@ import com.alphawork.backend.domain.entity.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, String> {
-    List<AuditLog> findByEntityId(String entityId);
-    List<AuditLog> findByEntityType(String entityType);
 }
@@ -1,12 +1,22 @@
 package com.alphawork.backend.repository;
 
 import com.alphawork.backend.domain.entity.Board;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Board> findByProjectId(String projectId);
+
+    @Query("select b.project.id from Board b where b.id = :id")
+    Optional<String> findProjectIdById(@Param("id") String id);
 }
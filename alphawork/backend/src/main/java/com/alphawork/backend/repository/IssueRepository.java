@@ -1,14 +1,93 @@
 package com.alphawork.backend.repository;
 
 import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.dto.IssueDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, String> {
+
+    /**
+     * Builds the DTO rows directly, with the assignee name joined in. No entities are
+     * materialized, so neither the eager associations nor the timeLogs/notes
+     * collections are touched.
+     */
+    String ISSUE_ROW_SELECT = "select new com.alphawork.backend.dto.IssueDTO(" +
+            "i.id, i.title, i.description, cast(i.type as String), cast(i.status as String), " +
+            "cast(a.id as String), concat(a.firstName, ' ', a.lastName), " +
+            "i.project.id, i.board.id, s.id, " +
+            "i.estimateHours, i.timeSpentHours, i.orderInColumn, i.rankKey, i.createdAt, i.updatedAt, i.version) " +
+            "from Issue i join i.board b left join i.assignee a left join i.sprint s ";
+
+    String AFTER_RANK_KEY = "and (i.rankKey > :rank or (i.rankKey = :rank and i.id > :id)) ";
+
+    /**
+     * The issue unless its board or project is tombstoned; the joins apply their
+     * deleted_at restriction, which loading by id would not. The eager associations are
+     * fetched along, so this stays one statement like a load by id.
+     */
+    @Query("select i from Issue i join fetch i.board b join fetch b.project p join fetch p.organization " +
+            "left join fetch i.assignee left join fetch i.sprint where i.id = :id")
+    Optional<Issue> findLiveById(@Param("id") String id);
+
     List<Issue> findByBoardId(String boardId);
     List<Issue> findBySprintId(String sprintId);
     List<Issue> findByProjectId(String projectId);
+
+    @Query(ISSUE_ROW_SELECT + "where i.board.id = :boardId order by i.rankKey, i.id")
+    List<IssueDTO> findBoardRows(@Param("boardId") String boardId);
+
+    @Query(ISSUE_ROW_SELECT + "where i.board.id = :boardId order by i.rankKey, i.id")
+    List<IssueDTO> findBoardRows(@Param("boardId") String boardId, Pageable pageable);
+
+    @Query(ISSUE_ROW_SELECT + "where i.board.id = :boardId " + AFTER_RANK_KEY +
+            "order by i.rankKey, i.id")
+    List<IssueDTO> findBoardRowsAfter(@Param("boardId") String boardId, @Param("rank") String rank,
+                                      @Param("id") String id, Pageable pageable);
+
+    @Query("select max(i.rankKey) from Issue i where i.board.id = :boardId")
+    String findMaxRankKey(@Param("boardId") String boardId);
+
+    /**
+     * Board-wide successor and predecessor of a rank, ignoring the issue being moved. A
+     * move places its key between a neighbour and the next key on the board, so no other
+     * card can hold a key inside the gap.
+     */
+    @Query("select min(i.rankKey) from Issue i where i.board.id = :boardId and i.rankKey > :rank and i.id <> :excludedId")
+    String findNextRankKey(@Param("boardId") String boardId, @Param("rank") String rank,
+                           @Param("excludedId") String excludedId);
+
+    @Query("select max(i.rankKey) from Issue i where i.board.id = :boardId and i.rankKey < :rank and i.id <> :excludedId")
+    String findPreviousRankKey(@Param("boardId") String boardId, @Param("rank") String rank,
+                               @Param("excludedId") String excludedId);
+
+    /**
+     * Rank of a move's neighbour, share-locked so a concurrent rebalance of the board
+     * cannot rewrite it before the move commits.
+     */
+    @Query(value = "SELECT CAST(id AS varchar) AS id, CAST(board_id AS varchar) AS \"boardId\", " +
+            "status, rank_key AS \"rankKey\" FROM issues WHERE id = CAST(:id AS uuid) FOR SHARE", nativeQuery = true)
+    Optional<RankPosition> findRankPositionForShare(@Param("id") String id);
+
+    @Query(ISSUE_ROW_SELECT + "where i.sprint.id = :sprintId order by i.rankKey, i.id")
+    List<IssueDTO> findSprintRows(@Param("sprintId") String sprintId, Pageable pageable);
+
+    @Query(ISSUE_ROW_SELECT + "where i.sprint.id = :sprintId " + AFTER_RANK_KEY +
+            "order by i.rankKey, i.id")
+    List<IssueDTO> findSprintRowsAfter(@Param("sprintId") String sprintId, @Param("rank") String rank,
+                                       @Param("id") String id, Pageable pageable);
+
+    interface RankPosition {
+        String getId();
+        String getBoardId();
+        String getStatus();
+        String getRankKey();
+    }
 }
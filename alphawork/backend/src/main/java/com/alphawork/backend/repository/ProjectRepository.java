@@ -1,12 +1,26 @@
 package com.alphawork.backend.repository;
 
 import com.alphawork.backend.domain.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
     List<Project> findByOrganizationId(String organizationId);
+
+    @Query("select p from Project p where p.organization.id = :organizationId order by p.createdAt, p.id")
+    List<Project> findPageByOrganizationId(@Param("organizationId") String organizationId, Pageable pageable);
+
+    @Query("select p from Project p where p.organization.id = :organizationId " +
+            "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) " +
+            "order by p.createdAt, p.id")
+    List<Project> findPageByOrganizationIdAfter(@Param("organizationId") String organizationId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") String id, Pageable pageable);
 }
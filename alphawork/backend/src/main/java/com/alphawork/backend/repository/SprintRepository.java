@@ -1,12 +1,37 @@
 package com.alphawork.backend.repository;
 
 import com.alphawork.backend.domain.entity.Sprint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, String> {
+    /**
+     * The sprint unless its board or project is tombstoned, with its board fetched along.
+     */
+    @Query("select s from Sprint s join fetch s.board b join fetch b.project p join fetch p.organization " +
+            "where s.id = :id")
+    Optional<Sprint> findLiveById(@Param("id") String id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Sprint> findByBoardId(String boardId);
+
+    @Query("select s from Sprint s join s.board b where s.board.id = :boardId order by s.createdAt, s.id")
+    List<Sprint> findPageByBoardId(@Param("boardId") String boardId, Pageable pageable);
+
+    @Query("select s from Sprint s join s.board b where s.board.id = :boardId " +
+            "and (s.createdAt > :createdAt or (s.createdAt = :createdAt and s.id > :id)) " +
+            "order by s.createdAt, s.id")
+    List<Sprint> findPageByBoardIdAfter(@Param("boardId") String boardId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") String id, Pageable pageable);
 }
@@ -0,0 +1,39 @@
+package com.alphawork.backend.repository;
+
+import com.alphawork.backend.domain.entity.TimeLog;
+import com.alphawork.backend.dto.TimeLogDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimeLogRepository extends JpaRepository<TimeLog, String> {
+
+    String TIME_LOG_ROW_SELECT = "select new com.alphawork.backend.dto.TimeLogDTO(" +
+            "t.id, t.issue.id, cast(t.user.id as String), t.hoursSpent, t.notes, t.createdAt) " +
+            "from TimeLog t ";
+
+    String BEFORE_CREATED_AT = "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) ";
+
+    @Query(TIME_LOG_ROW_SELECT + "where t.issue.id = :issueId order by t.createdAt desc, t.id desc")
+    List<TimeLogDTO> findIssueRows(@Param("issueId") String issueId, Pageable pageable);
+
+    @Query(TIME_LOG_ROW_SELECT + "where t.issue.id = :issueId " + BEFORE_CREATED_AT +
+            "order by t.createdAt desc, t.id desc")
+    List<TimeLogDTO> findIssueRowsBefore(@Param("issueId") String issueId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") String id, Pageable pageable);
+
+    @Query(TIME_LOG_ROW_SELECT + "where t.user.id = :userId order by t.createdAt desc, t.id desc")
+    List<TimeLogDTO> findUserRows(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(TIME_LOG_ROW_SELECT + "where t.user.id = :userId " + BEFORE_CREATED_AT +
+            "order by t.createdAt desc, t.id desc")
+    List<TimeLogDTO> findUserRowsBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") String id, Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.alphawork.backend.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a token whose signature and expiry have already been verified.
+ */
+public record JwtPrincipal(String userId, String email, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,20 +1,36 @@
 package com.alphawork.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     @Value("${jwt.secret:alphawork-secret-key-for-jwt-token-generation-must-be-long-enough-for-hs256}")
     private String jwtSecret;
@@ -22,6 +38,32 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}")
     private long jwtExpirationMs;
 
+    @Value("${jwt.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /**
+     * Verified principals keyed by a SHA-256 digest of the raw token, so a bearer token
+     * presented again within its lifetime skips signature verification. Entries are
+     * never served past their expiry, and the map never grows beyond cacheMaxEntries.
+     */
+    private final Map<String, JwtPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     public String generateToken(String userId, String email, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
@@ -32,18 +74,95 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-
         return Jwts.builder()
                 .claims(claims)
                 .subject(email)
                 .id(userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and extracts everything the security filter needs.
+     * Returns empty for malformed, tampered or expired tokens.
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        String digest = digest(token);
+
+        JwtPrincipal cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                cacheHits.increment();
+                record(cachedTimer, start);
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+        cacheMisses.increment();
+
+        JwtPrincipal principal;
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            principal = new JwtPrincipal(
+                    claims.getId(),
+                    claims.getSubject(),
+                    (String) claims.get("role"),
+                    claims.getExpiration().toInstant());
+        } catch (Exception e) {
+            record(rejectedTimer, start);
+            return Optional.empty();
+        }
+
+        if (verifiedTokens.size() >= cacheMaxEntries) {
+            verifiedTokens.values().removeIf(entry -> entry.isExpired(now));
+        }
+        if (verifiedTokens.size() < cacheMaxEntries) {
+            verifiedTokens.put(digest, principal);
+        }
+        record(verifiedTimer, start);
+        return Optional.of(principal);
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("alphawork.jwt.cache.hits", cacheHits, LongAdder::doubleValue)
+                .description("Bearer tokens served from the verified-token cache")
+                .register(registry);
+        FunctionCounter.builder("alphawork.jwt.cache.misses", cacheMisses, LongAdder::doubleValue)
+                .description("Bearer tokens that required signature verification")
+                .register(registry);
+        Gauge.builder("alphawork.jwt.cache.size", verifiedTokens, Map::size)
+                .register(registry);
+        cachedTimer = verificationTimer(registry, "cached");
+        verifiedTimer = verificationTimer(registry, "verified");
+        rejectedTimer = verificationTimer(registry, "rejected");
+    }
+
+    private static Timer verificationTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("alphawork.jwt.verification")
+                .description("Time to authenticate a bearer token")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
     public String getUserIdFromToken(String token) {
         return getClaimFromToken(token, Claims::getId);
     }
@@ -58,16 +177,7 @@ public class JwtTokenProvider {
     }
 
     public Boolean validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
@@ -76,11 +186,15 @@ public class JwtTokenProvider {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
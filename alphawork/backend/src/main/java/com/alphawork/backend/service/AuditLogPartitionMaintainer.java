@@ -0,0 +1,160 @@
+package com.alphawork.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of audit_logs in shape: partitions for the coming
+ * {@code months-ahead} months are created before any row can need them, and with a
+ * positive {@code retention-months} whole partitions older than the retention window
+ * are dropped, which is instant and leaves no dead tuples behind, unlike a DELETE.
+ *
+ * <p>Runs at startup and then daily. Every partition is created, and the retention drops
+ * run, in a transaction of its own, so one failing month neither blocks the others nor
+ * retention. Each transaction takes an advisory lock that keeps several instances from
+ * maintaining the partitions at the same time.
+ */
+@Component
+public class AuditLogPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPartitionMaintainer.class);
+
+    static final String PARTITION_PREFIX = "audit_logs_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('audit_logs_partitions'))";
+
+    private static final String EXISTS_SQL = "SELECT to_regclass(?) IS NOT NULL";
+
+    private static final String DEFAULT_HAS_ROWS_SQL = "SELECT EXISTS (SELECT 1 FROM audit_logs_default " +
+            "WHERE timestamp >= ? AND timestamp < ?)";
+
+    private static final String MOVE_FROM_DEFAULT_SQL = "WITH moved AS (DELETE FROM audit_logs_default " +
+            "WHERE timestamp >= ? AND timestamp < ? RETURNING *) INSERT INTO audit_logs SELECT * FROM moved";
+
+    private static final String PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'audit_logs' AND p.relnamespace = to_regnamespace(current_schema())";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${alphawork.audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${alphawork.audit.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${alphawork.audit.partitions.cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                inLockedTransaction(() -> createPartition(month));
+            } catch (RuntimeException e) {
+                log.error("Could not create audit log partition {}", partitionName(month), e);
+            }
+        }
+        if (retentionMonths > 0) {
+            try {
+                inLockedTransaction(() -> dropPartitionsBefore(current.minusMonths(retentionMonths - 1L)));
+            } catch (RuntimeException e) {
+                log.error("Could not drop expired audit log partitions", e);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code work} in a new transaction, unless another instance holds the lock.
+     */
+    private void inLockedTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+                work.run();
+            }
+        });
+    }
+
+    /**
+     * Postgres refuses a new partition while the default partition holds rows of its
+     * range, e.g. ones written while maintenance was failing. The default is then
+     * detached for the length of the transaction, and those rows move into the new
+     * partition before it is attached again.
+     */
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, partition))) {
+            return;
+        }
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        String create = "CREATE TABLE " + partition + " PARTITION OF audit_logs " +
+                "FOR VALUES FROM ('" + from.toLocalDate() + "') TO ('" + to.toLocalDate() + "')";
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(DEFAULT_HAS_ROWS_SQL, Boolean.class, from, to))) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+        jdbcTemplate.execute(create);
+        int moved = jdbcTemplate.update(MOVE_FROM_DEFAULT_SQL, from, to);
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT");
+        log.info("Moved {} audit log rows from the default partition into {}", moved, partition);
+    }
+
+    /**
+     * Drops every monthly partition that ends on or before the first day of {@code oldestKept}.
+     */
+    private void dropPartitionsBefore(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+        for (String partition : partitions) {
+            YearMonth month = partitionMonth(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped audit log partition {} (retention {} months)", partition, retentionMonths);
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * Month covered by a partition created by the migration or this class, null for
+     * anything else such as the default partition.
+     */
+    static YearMonth partitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        if (suffix.length() != 6 || !suffix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return YearMonth.parse(suffix, PARTITION_SUFFIX);
+    }
+}
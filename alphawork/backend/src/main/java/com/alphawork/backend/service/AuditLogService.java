@@ -1,41 +1,158 @@
 package com.alphawork.backend.service;
 
-import com.alphawork.backend.domain.entity.AuditLog;
 import com.alphawork.backend.domain.entity.User;
-import com.alphawork.backend.repository.AuditLogRepository;
+import com.alphawork.backend.dto.AuditLogDTO;
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.exception.BadRequestException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Records audit entries and reads them back newest first.
+ *
+ * <p>audit_logs is range-partitioned by month on its timestamp (V7). Reads are
+ * keyset-paginated on (timestamp desc, id desc) and always bound the timestamp, by the
+ * requested range and by the cursor, so Postgres prunes every partition outside it.
+ * Open-ended ranges still merge the per-partition indexes in order, reading only as
+ * many rows from each as the page needs.
+ */
 @Service
 public class AuditLogService {
 
+    private static final String SELECT_SQL = "SELECT CAST(a.id AS varchar) AS id, CAST(a.user_id AS varchar) AS user_id, " +
+            "a.action, a.entity_type, a.entity_id, a.before_state, a.after_state, a.description, a.timestamp " +
+            "FROM audit_logs a WHERE TRUE";
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private CursorPagination cursorPagination;
 
-    @Transactional
-    public void logAction(User user, String action, String entityType, String entityId, 
+    /**
+     * Records an audit entry without writing it on the caller's path. Inside a
+     * transaction the entry is handed to the background writer only once the
+     * transaction commits, so rolled-back mutations are never audited.
+     */
+    public void logAction(User user, String action, String entityType, String entityId,
                          String beforeState, String afterState, String description) {
-        AuditLog log = AuditLog.builder()
-                .user(user)
-                .action(action)
-                .entityType(entityType)
-                .entityId(entityId)
-                .beforeState(beforeState)
-                .afterState(afterState)
-                .description(description)
-                .build();
+        AuditLogWriter.PendingAuditLog log = new AuditLogWriter.PendingAuditLog(
+                user.getId(), action, entityType, entityId, beforeState, afterState, description,
+                LocalDateTime.now());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.enqueue(log);
+                }
+            });
+        } else {
+            auditLogWriter.enqueue(log);
+        }
+    }
+
+    /**
+     * History of one entity. The entity type is optional, entity ids are unique on their own.
+     */
+    public CursorPage<AuditLogDTO> getAuditLogsForEntity(String entityType, String entityId,
+                                                         LocalDateTime from, LocalDateTime to,
+                                                         String cursor, Integer limit) {
+        if (entityId == null || entityId.isBlank()) {
+            throw new BadRequestException("entityId is required");
+        }
+        Query query = new Query();
+        query.where(" AND a.entity_id = ?", entityId);
+        if (entityType != null) {
+            query.where(" AND a.entity_type = ?", entityType);
+        }
+        return fetch(query, from, to, cursor, limit);
+    }
 
-        auditLogRepository.save(log);
+    public CursorPage<AuditLogDTO> getAuditLogsForUser(String userId, LocalDateTime from, LocalDateTime to,
+                                                       String cursor, Integer limit) {
+        if (userId == null || userId.isBlank()) {
+            throw new BadRequestException("userId is required");
+        }
+        Query query = new Query();
+        query.where(" AND a.user_id = CAST(? AS uuid)", uuid(userId, "userId"));
+        return fetch(query, from, to, cursor, limit);
     }
 
-    public List<AuditLog> getAuditLogsForEntity(String entityId) {
-        return auditLogRepository.findByEntityId(entityId);
+    public CursorPage<AuditLogDTO> getAuditLogs(LocalDateTime from, LocalDateTime to, String cursor, Integer limit) {
+        return fetch(new Query(), from, to, cursor, limit);
     }
 
-    public List<AuditLog> getAuditLogsByEntityType(String entityType) {
-        return auditLogRepository.findByEntityType(entityType);
+    private CursorPage<AuditLogDTO> fetch(Query query, LocalDateTime from, LocalDateTime to,
+                                          String cursor, Integer limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException("from must be before to");
+        }
+        int size = cursorPagination.resolveLimit(limit);
+        if (from != null) {
+            query.where(" AND a.timestamp >= ?", Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            query.where(" AND a.timestamp < ?", Timestamp.valueOf(to));
+        }
+        if (cursor != null) {
+            CursorPagination.Key after = cursorPagination.decode(cursor);
+            Timestamp timestamp = Timestamp.valueOf(after.timestampValue());
+            // The plain bound prunes partitions, the row comparison picks the exact position
+            query.where(" AND a.timestamp <= ?", timestamp);
+            query.where(" AND (a.timestamp, a.id) < (?, CAST(? AS uuid))", timestamp, after.uuidId());
+        }
+        query.sql.append(" ORDER BY a.timestamp DESC, a.id DESC LIMIT ?");
+        query.args.add(size + 1);
+
+        List<AuditLogDTO> rows = jdbcTemplate.query(query.sql.toString(), AUDIT_LOG_MAPPER, query.args.toArray());
+        return cursorPagination.page(rows, size, this::timestampCursor);
+    }
+
+    private static String uuid(String value, String field) {
+        try {
+            return UUID.fromString(value).toString();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + " " + value);
+        }
+    }
+
+    private String timestampCursor(AuditLogDTO log) {
+        return cursorPagination.encode(log.getTimestamp(), log.getId());
+    }
+
+    private static final RowMapper<AuditLogDTO> AUDIT_LOG_MAPPER = (rs, rowNum) -> AuditLogDTO.builder()
+            .id(rs.getString("id"))
+            .userId(rs.getString("user_id"))
+            .action(rs.getString("action"))
+            .entityType(rs.getString("entity_type"))
+            .entityId(rs.getString("entity_id"))
+            .beforeState(rs.getString("before_state"))
+            .afterState(rs.getString("after_state"))
+            .description(rs.getString("description"))
+            .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+            .build();
+
+    private static final class Query {
+        private final StringBuilder sql = new StringBuilder(SELECT_SQL);
+        private final List<Object> args = new ArrayList<>();
+
+        private void where(String condition, Object... values) {
+            sql.append(condition);
+            args.addAll(List.of(values));
+        }
     }
 }
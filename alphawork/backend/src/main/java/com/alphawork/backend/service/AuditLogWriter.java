@@ -0,0 +1,243 @@
+package com.alphawork.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind pipeline for audit records. Callers hand records to a bounded queue and
+ * return immediately; a single background writer drains the queue and inserts
+ * multi-row batches whenever a batch fills up or the flush interval elapses.
+ *
+ * <p>When the queue is full a producer waits at most {@code offer-timeout-ms} before
+ * the record is dropped and counted, so a stalled database cannot back up into
+ * request threads. The writer stops only after the web server has finished its
+ * graceful shutdown; remaining records are flushed then, and records arriving after
+ * that are written synchronously by the caller.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs " +
+            "(id, user_id, action, entity_type, entity_id, before_state, after_state, description, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Below the web server's start/stop phase, so in-flight requests are done auditing
+     * before the writer shuts down.
+     */
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${alphawork.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${alphawork.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${alphawork.audit.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${alphawork.audit.offer-timeout-ms:5}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PendingAuditLog> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private Timer flushTimer;
+
+    public boolean enqueue(PendingAuditLog record) {
+        BlockingQueue<PendingAuditLog> target = queue;
+        if (!running || target == null) {
+            writeOnCaller(List.of(record));
+            return true;
+        }
+        try {
+            if (target.offer(record, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                if (!running) {
+                    // Stopped while we were offering; stop() may already have drained
+                    List<PendingAuditLog> remaining = new ArrayList<>();
+                    target.drainTo(remaining);
+                    if (!remaining.isEmpty()) {
+                        writeOnCaller(remaining);
+                    }
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("Audit queue is full, dropped {} records so far", dropped.get());
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything enqueued while the writer was winding down
+        List<PendingAuditLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("alphawork.audit.queue.size", this, writer -> writer.queue != null ? writer.queue.size() : 0)
+                .description("Audit records waiting to be written")
+                .register(registry);
+        Gauge.builder("alphawork.audit.queue.capacity", this, writer -> writer.queueCapacity)
+                .register(registry);
+        registerCounter(registry, "alphawork.audit.records.enqueued", enqueued);
+        registerCounter(registry, "alphawork.audit.records.written", written);
+        registerCounter(registry, "alphawork.audit.records.dropped", dropped);
+        registerCounter(registry, "alphawork.audit.records.failed", failed);
+        flushTimer = Timer.builder("alphawork.audit.flush")
+                .description("Time spent writing one audit batch")
+                .register(registry);
+    }
+
+    private void registerCounter(MeterRegistry registry, String name, AtomicLong value) {
+        FunctionCounter.builder(name, value, AtomicLong::doubleValue)
+                .register(registry);
+    }
+
+    private void drainLoop() {
+        List<PendingAuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingAuditLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingAuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested; flush what we already hold and let stop() drain the rest
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Callers may be in an afterCommit callback whose connection is still bound to the
+     * finished transaction, so the write gets a transaction of its own.
+     */
+    private void writeOnCaller(List<PendingAuditLog> batch) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> flush(batch));
+    }
+
+    private void flush(List<PendingAuditLog> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, record.userId());
+                ps.setString(3, record.action());
+                ps.setString(4, record.entityType());
+                ps.setString(5, record.entityId());
+                ps.setString(6, record.beforeState());
+                ps.setString(7, record.afterState());
+                ps.setString(8, record.description());
+                ps.setTimestamp(9, Timestamp.valueOf(record.timestamp()));
+            });
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("Failed to write {} audit records", batch.size(), e);
+        } finally {
+            if (flushTimer != null) {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public record PendingAuditLog(UUID userId, String action, String entityType, String entityId,
+                                  String beforeState, String afterState, String description,
+                                  LocalDateTime timestamp) {
+    }
+}
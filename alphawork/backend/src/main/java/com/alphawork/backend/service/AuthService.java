@@ -7,14 +7,18 @@ import com.alphawork.backend.dto.RegisterRequest;
 import com.alphawork.backend.dto.UserDTO;
 import com.alphawork.backend.repository.UserRepository;
 import com.alphawork.backend.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("alphawork.service")
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -22,16 +26,27 @@ public class AuthService {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHasher;
 
-    @Transactional
+    /**
+     * Login and registration are not transactional: they wait on the hashing pool and
+     * must not hold a database connection meanwhile.
+     */
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        String storedHash = user.getPassword();
+        if (!passwordHasher.matches(request.getPassword(), storedHash)) {
             throw new RuntimeException("Invalid credentials");
         }
+        if (passwordHasher.needsRehash(storedHash)) {
+            passwordHasher.rehashInBackground(request.getPassword(), newHash -> {
+                if (userRepository.replacePasswordHash(user.getId(), storedHash, newHash) == 1) {
+                    log.debug("Rehashed password of user {} at the configured cost", user.getId());
+                }
+            });
+        }
 
         String token = tokenProvider.generateToken(user.getId().toString(), user.getEmail(), user.getRole().toString());
 
@@ -43,7 +58,6 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
@@ -54,7 +68,7 @@ public class AuthService {
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .role(role)
@@ -73,12 +87,11 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
     public User createUser(User user) {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
         return userRepository.save(user);
     }
 
@@ -0,0 +1,141 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.BoardEventDTO;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.ChangeType;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Pushes committed issue changes to STOMP subscribers of /topic/boards/{boardId}.
+ * Changes are buffered per board and issue, and flushed once per coalescing window, so
+ * a drag storm or a bulk edit produces one frame per board with the net change of
+ * each issue rather than one frame per write. Frames carry only what subscribers need
+ * to patch their cards, never full issues with their descriptions.
+ */
+@Component
+public class BoardEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventBroadcaster.class);
+
+    static final String BOARD_TOPIC = "/topic/boards/";
+
+    private static final List<String> CARD_FIELDS = List.of("title", "status", "assigneeId", "assigneeName", "rankKey");
+
+    /**
+     * The properties an update may report; version travels separately and updatedAt
+     * changes with every write.
+     */
+    private static final Map<String, Function<IssueDTO, Object>> PROPERTIES = new LinkedHashMap<>();
+
+    static {
+        PROPERTIES.put("title", IssueDTO::getTitle);
+        PROPERTIES.put("description", IssueDTO::getDescription);
+        PROPERTIES.put("type", IssueDTO::getType);
+        PROPERTIES.put("status", IssueDTO::getStatus);
+        PROPERTIES.put("assigneeId", IssueDTO::getAssigneeId);
+        PROPERTIES.put("assigneeName", IssueDTO::getAssigneeName);
+        PROPERTIES.put("sprintId", IssueDTO::getSprintId);
+        PROPERTIES.put("estimateHours", IssueDTO::getEstimateHours);
+        PROPERTIES.put("timeSpentHours", IssueDTO::getTimeSpentHours);
+        PROPERTIES.put("rankKey", IssueDTO::getRankKey);
+    }
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final Map<String, Map<String, IssueChange>> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssuesChanged(BoardIssuesChangedEvent event) {
+        if (event.boardId() == null) {
+            return;
+        }
+        pending.compute(event.boardId(), (boardId, changes) -> {
+            Map<String, IssueChange> merged = changes != null ? changes : new LinkedHashMap<>();
+            for (IssueChange change : event.changes()) {
+                IssueChange previous = merged.get(change.issueId());
+                IssueChange combined = coalesce(previous, change);
+                if (combined == null) {
+                    merged.remove(change.issueId());
+                } else {
+                    merged.put(change.issueId(), combined);
+                }
+            }
+            return merged.isEmpty() ? null : merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${alphawork.board-events.coalesce-window-ms:250}")
+    public void flush() {
+        for (String boardId : pending.keySet()) {
+            Map<String, IssueChange> changes = pending.remove(boardId);
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+            List<BoardEventDTO.Change> frame = new ArrayList<>(changes.size());
+            for (IssueChange change : changes.values()) {
+                frame.add(toFrameChange(change));
+            }
+            try {
+                messagingTemplate.convertAndSend(BOARD_TOPIC + boardId,
+                        BoardEventDTO.builder().boardId(boardId).changes(frame).build());
+            } catch (RuntimeException e) {
+                log.warn("Could not publish {} changes for board {}", frame.size(), boardId, e);
+            }
+        }
+    }
+
+    private static BoardEventDTO.Change toFrameChange(IssueChange change) {
+        if (change.type() == ChangeType.DELETED) {
+            return new BoardEventDTO.Change(change.type().name(), change.issueId(), null, null);
+        }
+        IssueDTO after = change.after();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (change.type() == ChangeType.CREATED) {
+            CARD_FIELDS.forEach(name -> fields.put(name, PROPERTIES.get(name).apply(after)));
+        } else {
+            PROPERTIES.forEach((name, property) -> {
+                Object value = property.apply(after);
+                if (!Objects.equals(property.apply(change.before()), value)) {
+                    fields.put(name, value);
+                }
+            });
+        }
+        return new BoardEventDTO.Change(change.type().name(), change.issueId(), after.getVersion(), fields);
+    }
+
+    /**
+     * Net effect of two consecutive changes to the same issue within one window;
+     * null means the issue appeared and disappeared again and nothing needs sending.
+     */
+    private static IssueChange coalesce(IssueChange previous, IssueChange next) {
+        if (previous == null) {
+            return next;
+        }
+        if (previous.type() == ChangeType.CREATED) {
+            return next.type() == ChangeType.DELETED ? null : IssueChange.created(next.after());
+        }
+        if (next.type() == ChangeType.CREATED) {
+            // Deleted and re-created under the same id: subscribers only need the final state
+            return IssueChange.updated(previous.before(), next.after());
+        }
+        return new IssueChange(next.type(), next.issueId(), previous.before(), next.after());
+    }
+}
@@ -3,24 +3,50 @@ package com.alphawork.backend.service;
 import com.alphawork.backend.domain.entity.Board;
 import com.alphawork.backend.domain.entity.Project;
 import com.alphawork.backend.dto.BoardDTO;
+import com.alphawork.backend.event.BoardSprintsChangedEvent;
+import com.alphawork.backend.exception.PreconditionFailedException;
 import com.alphawork.backend.repository.BoardRepository;
 import com.alphawork.backend.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("alphawork.service")
 public class BoardService {
 
+    private static final SparseFields<BoardDTO> BOARD_FIELDS = new SparseFields<>(BoardDTO::new)
+            .column("id", "b.id", (board, value) -> board.setId((String) value))
+            .column("name", "b.name", (board, value) -> board.setName((String) value))
+            .column("projectId", "b.project.id", (board, value) -> board.setProjectId((String) value))
+            .column("type", "cast(b.type as String)", (board, value) -> board.setType((String) value))
+            .column("createdAt", "b.createdAt", (board, value) -> board.setCreatedAt((LocalDateTime) value))
+            .column("updatedAt", "b.updatedAt", (board, value) -> board.setUpdatedAt((LocalDateTime) value))
+            .column("version", "b.version", (board, value) -> board.setVersion((Long) value))
+            .card("id", "name", "type");
+
     @Autowired
     private BoardRepository boardRepository;
 
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     public BoardDTO createBoard(BoardDTO dto, String projectId) {
         Project project = projectRepository.findById(projectId)
@@ -42,6 +68,19 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The project's boards with only the selected columns, oldest first; a project has
+     * few boards, so like the full listing this is not paginated.
+     */
+    public List<BoardDTO> getBoardsByProject(String projectId, String fields) {
+        SparseFields<BoardDTO>.Selection selection = BOARD_FIELDS.select(fields);
+        if (selection == null) {
+            return getBoardsByProject(projectId);
+        }
+        return selection.list(entityManager, "from Board b", "where b.project.id = :projectId order by b.createdAt, b.id",
+                Map.of("projectId", projectId), 0);
+    }
+
     public BoardDTO getBoard(String id) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
@@ -49,20 +88,36 @@ public class BoardService {
     }
 
     @Transactional
-    public BoardDTO updateBoard(String id, BoardDTO dto) {
+    public BoardDTO updateBoard(String id, BoardDTO dto, Long expectedVersion) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Board not found"));
+        if (expectedVersion != null && !expectedVersion.equals(board.getVersion())) {
+            throw new PreconditionFailedException("Board " + id + " is at version " + board.getVersion());
+        }
 
         if (dto.getName() != null) board.setName(dto.getName());
         if (dto.getType() != null) board.setType(Board.BoardType.valueOf(dto.getType()));
 
-        Board updated = boardRepository.save(board);
+        Board updated = boardRepository.saveAndFlush(board);
         return mapToDTO(updated);
     }
 
+    /**
+     * Soft delete: the board is tombstoned and disappears from reads at once, while its
+     * sprints, issues and their children are removed later by TombstonePurger.
+     */
     @Transactional
     public void deleteBoard(String id) {
-        boardRepository.deleteById(id);
+        int tombstoned = entityManager.createNativeQuery(
+                        "UPDATE boards SET deleted_at = now() WHERE id = CAST(:id AS uuid) AND deleted_at IS NULL")
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class)
+                // Limits cache invalidation to boards instead of every region
+                .addSynchronizedEntityClass(Board.class)
+                .executeUpdate();
+        if (tombstoned > 0) {
+            eventPublisher.publishEvent(new BoardSprintsChangedEvent(id, null, true));
+        }
     }
 
     private BoardDTO mapToDTO(Board board) {
@@ -73,6 +128,7 @@ public class BoardService {
                 .type(board.getType().toString())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
+                .version(board.getVersion())
                 .build();
     }
 }
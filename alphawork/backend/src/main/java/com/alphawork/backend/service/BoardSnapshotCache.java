@@ -0,0 +1,113 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardSprintsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-process cache of board listings, validated by per-board version counters.
+ *
+ * <p>Every committed write to a board's issues or sprints bumps the matching counter.
+ * Cached entries remember the version they were loaded under and are ignored once it
+ * moves on, and the same counter backs the strong ETag of the listing, so a client
+ * holding the current ETag is answered with 304 without touching the database. The
+ * ETag also carries a per-process epoch so counters restarting at zero never collide.
+ */
+@Component
+public class BoardSnapshotCache implements MeterBinder {
+
+    public static final String ISSUES = "issues";
+    public static final String SPRINTS = "sprints";
+
+    @Value("${alphawork.board-cache.max-weight:67108864}")
+    private long maxWeight;
+
+    private final String epoch = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private Cache<String, Snapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, Snapshot snapshot) -> snapshot.weight())
+                .recordStats()
+                .build();
+    }
+
+    public long version(String kind, String boardId) {
+        return counter(kind, boardId).get();
+    }
+
+    public String etag(String kind, String boardId) {
+        return "\"" + kind + "-" + epoch + "-" + version(kind, boardId) + "\"";
+    }
+
+    /**
+     * Returns the cached value for this board and variant (page, cursor, ...) if it was
+     * loaded under the current version, otherwise loads and caches it. The version is
+     * read before loading, so a write committing mid-load can only leave an entry that
+     * is already out of date, never one that hides the write.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String kind, String boardId, String variant, Supplier<T> loader, ToIntFunction<T> weigher) {
+        long version = version(kind, boardId);
+        String key = kind + ":" + boardId + ":" + variant;
+        Snapshot cached = snapshots.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return (T) cached.value();
+        }
+        T value = loader.get();
+        snapshots.put(key, new Snapshot(version, value, Math.max(1, weigher.applyAsInt(value))));
+        return value;
+    }
+
+    public void bump(String kind, String boardId) {
+        counter(kind, boardId).incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssuesChanged(BoardIssuesChangedEvent event) {
+        if (event.boardId() != null) {
+            bump(ISSUES, event.boardId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSprintsChanged(BoardSprintsChangedEvent event) {
+        if (event.boardId() != null) {
+            bump(SPRINTS, event.boardId());
+            if (event.issuesAffected()) {
+                bump(ISSUES, event.boardId());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, snapshots, "boardSnapshots");
+    }
+
+    private AtomicLong counter(String kind, String boardId) {
+        return versions.computeIfAbsent(kind + ":" + boardId, key -> new AtomicLong());
+    }
+
+    private record Snapshot(long version, Object value, int weight) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers. A cursor is the opaque, URL-safe encoding of the sort key
+ * of the last row on a page plus its id as tie-breaker, so the next page is a plain
+ * index range scan no matter how deep the client has scrolled.
+ */
+@Component
+public class CursorPagination {
+
+    private static final String SEPARATOR = "|";
+
+    @Value("${alphawork.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${alphawork.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    /**
+     * Resolves the requested page size against the configured bounds and returns a
+     * pageable that fetches one extra row, used to detect whether a next page exists.
+     */
+    public Pageable probe(Integer limit) {
+        return Pageable.ofSize(resolveLimit(limit) + 1);
+    }
+
+    public int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    public <T> CursorPage<T> page(List<T> rows, Integer limit, Function<T, String> cursorOf) {
+        int size = resolveLimit(limit);
+        if (rows.size() <= size) {
+            return CursorPage.<T>builder().items(rows).build();
+        }
+        List<T> items = rows.subList(0, size);
+        return CursorPage.<T>builder()
+                .items(items)
+                .nextCursor(cursorOf.apply(items.get(size - 1)))
+                .build();
+    }
+
+    public String encode(Object key, String id) {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Key decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split <= 0 || split == raw.length() - 1) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new Key(raw.substring(0, split), raw.substring(split + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    public record Key(String value, String id) {
+
+        public int intValue() {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+        }
+
+        public float floatValue() {
+            try {
+                return Float.parseFloat(value);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+        }
+
+        /**
+         * The id, for queries that compare it as a uuid column.
+         */
+        public String uuidId() {
+            try {
+                return UUID.fromString(id).toString();
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+        }
+
+        public LocalDateTime timestampValue() {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,505 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.domain.entity.Board;
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.domain.entity.User;
+import com.alphawork.backend.dto.BulkIssueResult;
+import com.alphawork.backend.dto.BulkIssueUpdateRequest;
+import com.alphawork.backend.dto.BulkIssueUpdateResult;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.exception.BadRequestException;
+import com.alphawork.backend.repository.BoardRepository;
+import com.alphawork.backend.repository.IssueRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Bulk issue creation and updates. Items are validated as they are read, then written
+ * in chunks, one transaction per chunk, so Hibernate can group the inserts into JDBC
+ * batches (see hibernate.jdbc.batch_size). A chunk that fails at flush time is replayed
+ * item by item so a single bad row is reported instead of failing its neighbours.
+ * Bulk updates are a single set-based statement with one change event per board.
+ */
+@Service
+public class IssueBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueBulkService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueRankRebalancer rankRebalancer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${alphawork.issues.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${alphawork.issues.bulk.max-update:5000}")
+    private int maxUpdate;
+
+    public BulkIssueResult createIssues(Iterator<IssueDTO> source) {
+        List<BulkIssueResult.ItemError> errors = new ArrayList<>();
+        Map<String, Optional<String>> boardProjects = new HashMap<>();
+        List<PendingIssue> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        int created = 0;
+
+        while (true) {
+            IssueDTO dto;
+            try {
+                if (!source.hasNext()) {
+                    break;
+                }
+                dto = source.next();
+            } catch (RuntimeException e) {
+                // The payload itself is malformed; nothing after this point can be trusted
+                errors.add(new BulkIssueResult.ItemError(index++, "Malformed issue: " + e.getMessage()));
+                break;
+            }
+
+            try {
+                chunk.add(validate(index, dto, boardProjects));
+            } catch (IllegalArgumentException e) {
+                errors.add(new BulkIssueResult.ItemError(index, e.getMessage()));
+            }
+            index++;
+
+            if (chunk.size() >= chunkSize) {
+                created += writeChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += writeChunk(chunk, errors);
+        }
+
+        return BulkIssueResult.builder()
+                .received(index)
+                .created(created)
+                .failed(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Applies the requested changes to every selected issue in one UPDATE statement.
+     * The matching rows are locked in id order and their previous values returned
+     * alongside the new ones, so change events carry before and after states without
+     * a second read. Rows that already have the requested values are not touched. Issues
+     * can only be planned into a sprint of their own board; otherwise nothing is updated.
+     * Issues of deleted boards wait for the purger and are never selected.
+     */
+    @Transactional
+    public BulkIssueUpdateResult updateIssues(BulkIssueUpdateRequest request) {
+        SqlParts set = new SqlParts();
+        SqlParts differs = new SqlParts();
+        if (request.getStatus() != null) {
+            String status = requestEnum(Issue.IssueStatus.class, request.getStatus(), "status").name();
+            set.add("status = ?", status);
+            differs.add("i.status IS DISTINCT FROM ?", status);
+        }
+        if (Boolean.TRUE.equals(request.getUnassign())) {
+            set.add("assignee_id = NULL");
+            differs.add("i.assignee_id IS NOT NULL");
+        } else if (request.getAssigneeId() != null) {
+            String assigneeId = requireExisting("users", "assigneeId", request.getAssigneeId());
+            set.add("assignee_id = CAST(? AS uuid)", assigneeId);
+            differs.add("i.assignee_id IS DISTINCT FROM CAST(? AS uuid)", assigneeId);
+        }
+        String sprintBoardId = null;
+        if (Boolean.TRUE.equals(request.getRemoveFromSprint())) {
+            set.add("sprint_id = NULL");
+            differs.add("i.sprint_id IS NOT NULL");
+        } else if (request.getSprintId() != null) {
+            String sprintId = uuid(request.getSprintId(), "sprintId");
+            sprintBoardId = jdbcTemplate.query("SELECT CAST(board_id AS varchar) FROM sprints WHERE id = CAST(? AS uuid)",
+                    rs -> rs.next() ? rs.getString(1) : null, sprintId);
+            if (sprintBoardId == null) {
+                throw new BadRequestException("sprintId " + request.getSprintId() + " not found");
+            }
+            set.add("sprint_id = CAST(? AS uuid)", sprintId);
+            differs.add("i.sprint_id IS DISTINCT FROM CAST(? AS uuid)", sprintId);
+        }
+        if (request.getEstimateHours() != null) {
+            if (request.getEstimateHours() < 0) {
+                throw new BadRequestException("estimateHours must not be negative");
+            }
+            set.add("estimate_hours = ?", request.getEstimateHours());
+            differs.add("i.estimate_hours IS DISTINCT FROM ?", request.getEstimateHours());
+        }
+        if (set.isEmpty()) {
+            throw new BadRequestException("No changes requested");
+        }
+
+        SqlParts where = selection(request);
+        String sql = "WITH target AS (" +
+                "  SELECT i.id, i.status, i.assignee_id, i.sprint_id, i.estimate_hours, i.updated_at FROM issues i " +
+                "  WHERE " + where.joined(" AND ") + " AND (" + differs.joined(" OR ") + ") " +
+                "  AND NOT EXISTS (SELECT 1 FROM boards b WHERE b.id = i.board_id AND b.deleted_at IS NOT NULL) " +
+                "  ORDER BY i.id LIMIT ? FOR UPDATE" +
+                "), changed AS (" +
+                "  UPDATE issues i SET " + set.joined(", ") + ", updated_at = now(), version = i.version + 1 " +
+                "  FROM target t WHERE i.id = t.id " +
+                "  RETURNING i.id, i.title, i.description, i.type, i.status, i.assignee_id, i.project_id, i.board_id, " +
+                "  i.sprint_id, i.estimate_hours, i.time_spent_hours, i.order_in_column, i.rank_key, i.created_at, " +
+                "  i.updated_at, i.version, t.status AS old_status, t.assignee_id AS old_assignee_id, t.sprint_id AS old_sprint_id, " +
+                "  t.estimate_hours AS old_estimate_hours, t.updated_at AS old_updated_at" +
+                ") " +
+                "SELECT c.*, concat(a.first_name, ' ', a.last_name) AS assignee_name, " +
+                "concat(oa.first_name, ' ', oa.last_name) AS old_assignee_name " +
+                "FROM changed c LEFT JOIN users a ON a.id = c.assignee_id LEFT JOIN users oa ON oa.id = c.old_assignee_id " +
+                "ORDER BY c.id";
+
+        List<Object> args = new ArrayList<>(where.args);
+        args.addAll(differs.args);
+        args.add(maxUpdate + 1);
+        args.addAll(set.args);
+
+        List<IssueChange> changes = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            IssueDTO after = mapIssueRow(rs);
+            IssueDTO before = after.toBuilder()
+                    .status(rs.getString("old_status"))
+                    .assigneeId(rs.getString("old_assignee_id"))
+                    .assigneeName(rs.getString("old_assignee_id") != null ? rs.getString("old_assignee_name") : null)
+                    .sprintId(rs.getString("old_sprint_id"))
+                    .estimateHours(rs.getInt("old_estimate_hours"))
+                    .updatedAt(rs.getTimestamp("old_updated_at").toLocalDateTime())
+                    .version(after.getVersion() - 1)
+                    .build();
+            return IssueChange.updated(before, after);
+        }, args.toArray());
+
+        if (changes.size() > maxUpdate) {
+            // Rolls the statement back; callers should narrow the filter or split the ids
+            throw new BadRequestException("Bulk update matches more than " + maxUpdate + " issues");
+        }
+        for (IssueChange change : changes) {
+            if (sprintBoardId != null && !sprintBoardId.equals(change.after().getBoardId())) {
+                throw new BadRequestException("Issue " + change.issueId() + " is not on the board of sprint " +
+                        request.getSprintId());
+            }
+        }
+
+        Map<String, List<IssueChange>> changesByBoard = new LinkedHashMap<>();
+        List<String> issueIds = new ArrayList<>(changes.size());
+        for (IssueChange change : changes) {
+            changesByBoard.computeIfAbsent(change.after().getBoardId(), boardId -> new ArrayList<>()).add(change);
+            issueIds.add(change.issueId());
+        }
+        changesByBoard.forEach((boardId, boardChanges) ->
+                eventPublisher.publishEvent(new BoardIssuesChangedEvent(boardId, boardChanges)));
+
+        return BulkIssueUpdateResult.builder()
+                .affected(issueIds.size())
+                .issueIds(issueIds)
+                .build();
+    }
+
+    /**
+     * Maps an issues row that also carries the joined assignee_name column, as returned
+     * by the RETURNING clauses of set-based issue updates.
+     */
+    static IssueDTO mapIssueRow(ResultSet rs) throws SQLException {
+        return IssueDTO.builder()
+                .id(rs.getString("id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .type(rs.getString("type"))
+                .status(rs.getString("status"))
+                .assigneeId(rs.getString("assignee_id"))
+                .assigneeName(rs.getString("assignee_id") != null ? rs.getString("assignee_name") : null)
+                .projectId(rs.getString("project_id"))
+                .boardId(rs.getString("board_id"))
+                .sprintId(rs.getString("sprint_id"))
+                .estimateHours(rs.getInt("estimate_hours"))
+                .timeSpentHours(rs.getInt("time_spent_hours"))
+                .orderInColumn(rs.getInt("order_in_column"))
+                .rankKey(rs.getString("rank_key"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private SqlParts selection(BulkIssueUpdateRequest request) {
+        BulkIssueUpdateRequest.Filter filter = request.getFilter();
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (filter != null)) {
+            throw new BadRequestException("Exactly one of ids or filter is required");
+        }
+
+        SqlParts where = new SqlParts();
+        if (byIds) {
+            if (request.getIds().size() > maxUpdate) {
+                throw new BadRequestException("At most " + maxUpdate + " ids per request");
+            }
+            String[] ids = request.getIds().stream().map(id -> uuid(id, "id")).distinct().toArray(String[]::new);
+            where.add("i.id = ANY(CAST(? AS uuid[]))", (Object) ids);
+            return where;
+        }
+
+        if (filter.getProjectId() == null && filter.getBoardId() == null && filter.getSprintId() == null) {
+            throw new BadRequestException("filter needs a projectId, boardId or sprintId");
+        }
+        if (filter.getProjectId() != null) {
+            where.add("i.project_id = CAST(? AS uuid)", uuid(filter.getProjectId(), "filter.projectId"));
+        }
+        if (filter.getBoardId() != null) {
+            where.add("i.board_id = CAST(? AS uuid)", uuid(filter.getBoardId(), "filter.boardId"));
+        }
+        if (filter.getSprintId() != null) {
+            where.add("i.sprint_id = CAST(? AS uuid)", uuid(filter.getSprintId(), "filter.sprintId"));
+        }
+        if (filter.getStatus() != null) {
+            where.add("i.status = ?", requestEnum(Issue.IssueStatus.class, filter.getStatus(), "filter.status").name());
+        }
+        if (filter.getAssigneeId() != null) {
+            where.add("i.assignee_id = CAST(? AS uuid)", uuid(filter.getAssigneeId(), "filter.assigneeId"));
+        }
+        return where;
+    }
+
+    private String requireExisting(String table, String field, String id) {
+        String value = uuid(id, field);
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE id = CAST(? AS uuid)", Integer.class, value);
+        if (found == null || found == 0) {
+            throw new BadRequestException(field + " " + id + " not found");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E requestEnum(Class<E> type, String value, String field) {
+        try {
+            return parseEnum(type, value, field);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static String uuid(String value, String field) {
+        try {
+            return UUID.fromString(value).toString();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + " " + value);
+        }
+    }
+
+    private PendingIssue validate(int index, IssueDTO dto, Map<String, Optional<String>> boardProjects) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Issue is empty");
+        }
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        if (dto.getBoardId() == null) {
+            throw new IllegalArgumentException("boardId is required");
+        }
+        Issue.IssueType type = parseEnum(Issue.IssueType.class, dto.getType(), "type");
+        Issue.IssueStatus status = dto.getStatus() != null
+                ? parseEnum(Issue.IssueStatus.class, dto.getStatus(), "status")
+                : Issue.IssueStatus.TODO;
+        UUID assigneeId = null;
+        if (dto.getAssigneeId() != null) {
+            try {
+                assigneeId = UUID.fromString(dto.getAssigneeId());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid assigneeId " + dto.getAssigneeId());
+            }
+        }
+
+        String projectId = boardProjects
+                .computeIfAbsent(dto.getBoardId(), boardRepository::findProjectIdById)
+                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + dto.getBoardId()));
+        if (dto.getProjectId() != null && !dto.getProjectId().equals(projectId)) {
+            throw new IllegalArgumentException("Board " + dto.getBoardId() + " does not belong to project " + dto.getProjectId());
+        }
+
+        return new PendingIssue(index, dto, type, status, projectId, assigneeId);
+    }
+
+    private int writeChunk(List<PendingIssue> chunk, List<BulkIssueResult.ItemError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(chunk));
+            return chunk.size();
+        } catch (RuntimeException e) {
+            log.debug("Bulk chunk of {} issues failed, retrying item by item: {}", chunk.size(), e.getMessage());
+        }
+
+        int created = 0;
+        for (PendingIssue pending : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+                created++;
+            } catch (RuntimeException e) {
+                errors.add(new BulkIssueResult.ItemError(pending.index(), rootMessage(e)));
+            }
+        }
+        return created;
+    }
+
+    private void persist(List<PendingIssue> chunk) {
+        // Appended to the end of each board in payload order. The boards' rank locks are
+        // taken in id order before their last keys are read and held until commit.
+        Map<String, String> boardRanks = new TreeMap<>();
+        chunk.forEach(pending -> boardRanks.put(pending.dto().getBoardId(), null));
+        for (String boardId : boardRanks.keySet()) {
+            rankRebalancer.lockBoard(boardId);
+            boardRanks.put(boardId, issueRepository.findMaxRankKey(boardId));
+        }
+
+        List<Issue> issues = new ArrayList<>(chunk.size());
+        for (PendingIssue pending : chunk) {
+            String rankKey = RankKeys.between(boardRanks.get(pending.dto().getBoardId()), null);
+            boardRanks.put(pending.dto().getBoardId(), rankKey);
+            Issue issue = toEntity(pending, rankKey);
+            entityManager.persist(issue);
+            issues.add(issue);
+        }
+        entityManager.flush();
+
+        Map<String, List<IssueChange>> changesByBoard = new HashMap<>();
+        for (int i = 0; i < issues.size(); i++) {
+            IssueDTO created = toCreatedDTO(chunk.get(i), issues.get(i));
+            changesByBoard.computeIfAbsent(created.getBoardId(), boardId -> new ArrayList<>())
+                    .add(IssueChange.created(created));
+        }
+        changesByBoard.forEach((boardId, changes) -> {
+            eventPublisher.publishEvent(new BoardIssuesChangedEvent(boardId, changes));
+            rankRebalancer.onRankAssigned(boardId, changes.get(changes.size() - 1).after().getRankKey());
+        });
+        entityManager.clear();
+    }
+
+    private Issue toEntity(PendingIssue pending, String rankKey) {
+        IssueDTO dto = pending.dto();
+        Issue issue = new Issue();
+        issue.setTitle(dto.getTitle());
+        issue.setDescription(dto.getDescription());
+        issue.setType(pending.type());
+        issue.setStatus(pending.status());
+        issue.setEstimateHours(dto.getEstimateHours() != null ? dto.getEstimateHours() : 0);
+        issue.setTimeSpentHours(dto.getTimeSpentHours() != null ? dto.getTimeSpentHours() : 0);
+        issue.setOrderInColumn(dto.getOrderInColumn() != null ? dto.getOrderInColumn() : 0);
+        issue.setRankKey(rankKey);
+        issue.setProject(entityManager.getReference(Project.class, pending.projectId()));
+        issue.setBoard(entityManager.getReference(Board.class, dto.getBoardId()));
+        if (dto.getSprintId() != null) {
+            issue.setSprint(entityManager.getReference(Sprint.class, dto.getSprintId()));
+        }
+        if (pending.assigneeId() != null) {
+            issue.setAssignee(entityManager.getReference(User.class, pending.assigneeId()));
+        }
+        return issue;
+    }
+
+    /**
+     * Snapshot of a freshly inserted issue built from the request, so publishing the
+     * change never initializes the reference proxies.
+     */
+    private IssueDTO toCreatedDTO(PendingIssue pending, Issue issue) {
+        return IssueDTO.builder()
+                .id(issue.getId())
+                .title(issue.getTitle())
+                .description(issue.getDescription())
+                .type(issue.getType().toString())
+                .status(issue.getStatus().toString())
+                .assigneeId(pending.assigneeId() != null ? pending.assigneeId().toString() : null)
+                .projectId(pending.projectId())
+                .boardId(pending.dto().getBoardId())
+                .sprintId(pending.dto().getSprintId())
+                .estimateHours(issue.getEstimateHours())
+                .timeSpentHours(issue.getTimeSpentHours())
+                .orderInColumn(issue.getOrderInColumn())
+                .rankKey(issue.getRankKey())
+                .createdAt(issue.getCreatedAt())
+                .updatedAt(issue.getUpdatedAt())
+                .version(issue.getVersion())
+                .build();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + " " + value);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * SQL fragments with their positional arguments, joined in the order they were added.
+     */
+    private static final class SqlParts {
+        private final List<String> fragments = new ArrayList<>();
+        private final List<Object> args = new ArrayList<>();
+
+        void add(String fragment, Object... fragmentArgs) {
+            fragments.add(fragment);
+            args.addAll(Arrays.asList(fragmentArgs));
+        }
+
+        boolean isEmpty() {
+            return fragments.isEmpty();
+        }
+
+        String joined(String separator) {
+            return String.join(separator, fragments);
+        }
+    }
+
+    private record PendingIssue(int index, IssueDTO dto, Issue.IssueType type, Issue.IssueStatus status,
+                                String projectId, UUID assigneeId) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Respaces the rank keys of boards where repeated inserts into the same gap have made
+ * keys long. Writers report every key they assign; boards with a key longer than
+ * {@code rebalance-length} are queued and rewritten in the background, in board order,
+ * with evenly spaced short keys.
+ *
+ * <p>The board's rows are locked FOR UPDATE while they are rewritten, and moves
+ * share-lock their neighbours, so a move never computes its key from neighbours that
+ * are being respaced underneath it.
+ *
+ * <p>Every writer that derives a key from the board's current keys first takes the
+ * board's rank lock ({@link #lockBoard}), so two appends or two drops into the same gap
+ * never read the same neighbours and pick the same key. uq_issues_board_rank backs this
+ * up in the database.
+ */
+@Component
+public class IssueRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueRankRebalancer.class);
+
+    private static final String LOCK_BOARD_SQL = "SELECT CAST(id AS varchar) FROM issues " +
+            "WHERE board_id = CAST(? AS uuid) ORDER BY rank_key, id FOR UPDATE";
+
+    private static final String LOCK_RANKS_SQL = "SELECT pg_advisory_xact_lock(hashtext('issue_ranks'), hashtext(?))";
+
+    private static final String DEFER_UNIQUE_RANKS_SQL = "SET CONSTRAINTS uq_issues_board_rank DEFERRED";
+
+    private static final String UPDATE_RANK_SQL = "UPDATE issues SET rank_key = ? WHERE id = CAST(? AS uuid)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${alphawork.issues.rank.rebalance-length:12}")
+    private int rebalanceLength;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public void onRankAssigned(String boardId, String rankKey) {
+        if (boardId != null && rankKey.length() > rebalanceLength) {
+            pending.add(boardId);
+        }
+    }
+
+    /**
+     * Serializes rank assignment on the board until the current transaction ends. Must be
+     * called inside a transaction, before reading the keys a new key is derived from.
+     * Callers locking several boards take them in board id order.
+     */
+    public void lockBoard(String boardId) {
+        jdbcTemplate.query(LOCK_RANKS_SQL, rs -> {
+        }, boardId);
+    }
+
+    @Scheduled(fixedDelayString = "${alphawork.issues.rank.rebalance-interval-ms:30000}")
+    public void rebalancePending() {
+        for (String boardId : pending) {
+            pending.remove(boardId);
+            try {
+                int count = rebalance(boardId);
+                log.info("Rebalanced rank keys of {} issues on board {}", count, boardId);
+            } catch (RuntimeException e) {
+                log.warn("Could not rebalance rank keys of board {}", boardId, e);
+            }
+        }
+    }
+
+    public int rebalance(String boardId) {
+        Integer count = transactionTemplate.execute(status -> {
+            lockBoard(boardId);
+            // Rows are rewritten one by one, so keys pass through values still held by others
+            jdbcTemplate.execute(DEFER_UNIQUE_RANKS_SQL);
+            List<String> ids = jdbcTemplate.queryForList(LOCK_BOARD_SQL, String.class, boardId);
+            List<Object[]> ranks = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                ranks.add(new Object[]{RankKeys.spaced(i, ids.size()), ids.get(i)});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, ranks);
+            // No card moved, but cached pages and cursors carry the old keys
+            eventPublisher.publishEvent(new BoardIssuesChangedEvent(boardId, List.of()));
+            return ids.size();
+        });
+        return count != null ? count : 0;
+    }
+}
@@ -2,21 +2,84 @@ package com.alphawork.backend.service;
 
 import com.alphawork.backend.domain.entity.Board;
 import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.domain.entity.User;
+import com.alphawork.backend.dto.CursorPage;
 import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.dto.MoveIssueRequest;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.exception.BadRequestException;
+import com.alphawork.backend.exception.PreconditionFailedException;
+import com.alphawork.backend.exception.ResourceNotFoundException;
+import com.alphawork.backend.repository.BoardRepository;
 import com.alphawork.backend.repository.IssueRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("alphawork.service")
 public class IssueService {
 
+    /**
+     * Columns for {@code fields=} on the issue listings, as in IssueRepository.ISSUE_ROW_SELECT.
+     */
+    private static final SparseFields<IssueDTO> ISSUE_FIELDS = new SparseFields<>(IssueDTO::new)
+            .column("id", "i.id", (issue, value) -> issue.setId((String) value))
+            .column("title", "i.title", (issue, value) -> issue.setTitle((String) value))
+            .column("description", "i.description", (issue, value) -> issue.setDescription((String) value))
+            .column("type", "cast(i.type as String)", (issue, value) -> issue.setType((String) value))
+            .column("status", "cast(i.status as String)", (issue, value) -> issue.setStatus((String) value))
+            .column("assigneeId", "cast(a.id as String)", "left join i.assignee a",
+                    (issue, value) -> issue.setAssigneeId((String) value))
+            .column("assigneeName", "concat(a.firstName, ' ', a.lastName)", "left join i.assignee a",
+                    (issue, value) -> issue.setAssigneeName((String) value))
+            .column("projectId", "i.project.id", (issue, value) -> issue.setProjectId((String) value))
+            .column("boardId", "b.id", (issue, value) -> issue.setBoardId((String) value))
+            .column("sprintId", "s.id", "left join i.sprint s", (issue, value) -> issue.setSprintId((String) value))
+            .column("estimateHours", "i.estimateHours", (issue, value) -> issue.setEstimateHours((Integer) value))
+            .column("timeSpentHours", "i.timeSpentHours", (issue, value) -> issue.setTimeSpentHours((Integer) value))
+            .column("orderInColumn", "i.orderInColumn", (issue, value) -> issue.setOrderInColumn((Integer) value))
+            .column("rankKey", "i.rankKey", (issue, value) -> issue.setRankKey((String) value))
+            .column("createdAt", "i.createdAt", (issue, value) -> issue.setCreatedAt((LocalDateTime) value))
+            .column("updatedAt", "i.updatedAt", (issue, value) -> issue.setUpdatedAt((LocalDateTime) value))
+            .column("version", "i.version", (issue, value) -> issue.setVersion((Long) value))
+            .card("id", "title", "status", "assigneeId", "assigneeName", "rankKey");
+
     @Autowired
     private IssueRepository issueRepository;
 
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private IssueRankRebalancer rankRebalancer;
+
     @Transactional
     public IssueDTO createIssue(IssueDTO dto) {
         Issue issue = new Issue();
@@ -25,17 +88,51 @@ public class IssueService {
         issue.setType(Issue.IssueType.valueOf(dto.getType()));
         issue.setStatus(Issue.IssueStatus.valueOf(dto.getStatus() != null ? dto.getStatus() : "TODO"));
         issue.setEstimateHours(dto.getEstimateHours() != null ? dto.getEstimateHours() : 0);
+        if (dto.getBoardId() != null) {
+            String projectId = boardRepository.findProjectIdById(dto.getBoardId())
+                    .orElseThrow(() -> new RuntimeException("Board not found"));
+            issue.setBoard(entityManager.getReference(Board.class, dto.getBoardId()));
+            issue.setProject(entityManager.getReference(Project.class, projectId));
+        }
+        if (dto.getSprintId() != null) issue.setSprint(entityManager.getReference(Sprint.class, dto.getSprintId()));
+        if (dto.getAssigneeId() != null) issue.setAssignee(entityManager.getReference(User.class, UUID.fromString(dto.getAssigneeId())));
+        String boardMax = null;
+        if (dto.getBoardId() != null) {
+            rankRebalancer.lockBoard(dto.getBoardId());
+            boardMax = issueRepository.findMaxRankKey(dto.getBoardId());
+        }
+        issue.setRankKey(RankKeys.between(boardMax, null));
 
         Issue saved = issueRepository.save(issue);
-        return mapToDTO(saved);
+        IssueDTO created = mapToDTO(saved);
+        publish(IssueChange.created(created));
+        rankRebalancer.onRankAssigned(created.getBoardId(), created.getRankKey());
+        return created;
     }
 
     public List<IssueDTO> getIssuesByBoard(String boardId) {
-        return issueRepository.findByBoardId(boardId)
-                .stream()
-                .sorted((a, b) -> a.getOrderInColumn().compareTo(b.getOrderInColumn()))
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return issueRepository.findBoardRows(boardId);
+    }
+
+    public CursorPage<IssueDTO> getIssuesByBoard(String boardId, String cursor, Integer limit, String fields) {
+        SparseFields<IssueDTO>.Selection selection = ISSUE_FIELDS.select(fields, "id", "rankKey");
+        String variant = cursor + ":" + limit + (selection != null ? ":" + selection.key() : "");
+        return boardSnapshotCache.get(BoardSnapshotCache.ISSUES, boardId, variant,
+                () -> selection != null
+                        ? loadIssueFields(selection, "b.id", boardId, cursor, limit)
+                        : loadIssuesByBoard(boardId, cursor, limit),
+                page -> page.getItems().stream().mapToInt(IssueService::estimateWeight).sum());
+    }
+
+    private CursorPage<IssueDTO> loadIssuesByBoard(String boardId, String cursor, Integer limit) {
+        List<IssueDTO> rows;
+        if (cursor == null) {
+            rows = issueRepository.findBoardRows(boardId, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = issueRepository.findBoardRowsAfter(boardId, key.value(), key.id(), cursorPagination.probe(limit));
+        }
+        return cursorPagination.page(rows, limit, this::rankCursor);
     }
 
     public List<IssueDTO> getIssuesBySprint(String sprintId) {
@@ -45,40 +142,203 @@ public class IssueService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<IssueDTO> getIssuesBySprint(String sprintId, String cursor, Integer limit, String fields) {
+        SparseFields<IssueDTO>.Selection selection = ISSUE_FIELDS.select(fields, "id", "rankKey");
+        if (selection != null) {
+            return loadIssueFields(selection, "i.sprint.id", sprintId, cursor, limit);
+        }
+        List<IssueDTO> rows;
+        if (cursor == null) {
+            rows = issueRepository.findSprintRows(sprintId, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = issueRepository.findSprintRowsAfter(sprintId, key.value(), key.id(), cursorPagination.probe(limit));
+        }
+        return cursorPagination.page(rows, limit, this::rankCursor);
+    }
+
+    /**
+     * Page of the issues whose {@code owner} column matches, reading only the selected
+     * columns, in the same order and with the same cursors as the full listings.
+     */
+    private CursorPage<IssueDTO> loadIssueFields(SparseFields<IssueDTO>.Selection selection, String owner,
+                                                 String ownerId, String cursor, Integer limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ownerId", ownerId);
+        String where = "where " + owner + " = :ownerId ";
+        if (cursor != null) {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            where += IssueRepository.AFTER_RANK_KEY;
+            parameters.put("rank", key.value());
+            parameters.put("id", key.id());
+        }
+        List<IssueDTO> rows = selection.list(entityManager, "from Issue i join i.board b",
+                where + "order by i.rankKey, i.id", parameters, cursorPagination.probe(limit).getPageSize());
+        CursorPage<IssueDTO> page = cursorPagination.page(rows, limit, this::rankCursor);
+        selection.strip(page.getItems());
+        return page;
+    }
+
     public IssueDTO getIssue(String id) {
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Issue not found"));
+        Issue issue = issueRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found"));
         return mapToDTO(issue);
     }
 
     @Transactional
-    public IssueDTO updateIssueStatus(String id, String status) {
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Issue not found"));
+    public IssueDTO updateIssueStatus(String id, String status, Long expectedVersion) {
+        Issue issue = issueRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found"));
+        checkVersion(issue, expectedVersion);
 
+        IssueDTO before = mapToDTO(issue);
         issue.setStatus(Issue.IssueStatus.valueOf(status));
-        Issue updated = issueRepository.save(issue);
-        return mapToDTO(updated);
+        Issue updated = issueRepository.saveAndFlush(issue);
+        IssueDTO after = mapToDTO(updated);
+        publish(IssueChange.updated(before, after));
+        return after;
     }
 
+    /**
+     * Applies the non-null fields of the DTO. Only changed columns are written (Issue is
+     * {@code @DynamicUpdate}), with the version in the WHERE clause: a stale expected
+     * version fails before any write, and an editor committing in between makes the
+     * single UPDATE match no row, both surfacing as 412.
+     */
     @Transactional
-    public IssueDTO updateIssue(String id, IssueDTO dto) {
-        Issue issue = issueRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Issue not found"));
+    public IssueDTO updateIssue(String id, IssueDTO dto, Long expectedVersion) {
+        Issue issue = issueRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found"));
+        checkVersion(issue, expectedVersion);
 
+        IssueDTO before = mapToDTO(issue);
         if (dto.getTitle() != null) issue.setTitle(dto.getTitle());
         if (dto.getDescription() != null) issue.setDescription(dto.getDescription());
         if (dto.getStatus() != null) issue.setStatus(Issue.IssueStatus.valueOf(dto.getStatus()));
         if (dto.getEstimateHours() != null) issue.setEstimateHours(dto.getEstimateHours());
         if (dto.getTimeSpentHours() != null) issue.setTimeSpentHours(dto.getTimeSpentHours());
 
-        Issue updated = issueRepository.save(issue);
-        return mapToDTO(updated);
+        Issue updated = issueRepository.saveAndFlush(issue);
+        IssueDTO after = mapToDTO(updated);
+        publish(IssueChange.updated(before, after));
+        return after;
+    }
+
+    /**
+     * Moves an issue between its new neighbours, possibly into another column or board,
+     * by giving it a rank key between theirs. Only the moved row is written. Sprints
+     * belong to one board, so an issue moved to another board leaves its sprint.
+     */
+    @Transactional
+    public IssueDTO moveIssue(String id, MoveIssueRequest request) {
+        Issue issue = issueRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found"));
+
+        IssueDTO before = mapToDTO(issue);
+        String boardId = request.getBoardId() != null ? request.getBoardId() : before.getBoardId();
+        Issue.IssueStatus status = request.getStatus() != null
+                ? parseStatus(request.getStatus())
+                : issue.getStatus();
+
+        rankRebalancer.lockBoard(boardId);
+        String lower = neighbourRank(request.getPreviousId(), id, boardId, status);
+        String upper = neighbourRank(request.getNextId(), id, boardId, status);
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new BadRequestException("previousId must be ranked before nextId");
+        }
+        // Narrow the gap to the neighbour's board-wide successor or predecessor, which may
+        // sit in another column, so the new key is unique on the board
+        if (lower != null) {
+            upper = issueRepository.findNextRankKey(boardId, lower, id);
+        } else if (upper != null) {
+            lower = issueRepository.findPreviousRankKey(boardId, upper, id);
+        } else {
+            // Dropped into an empty column: any key orders it correctly, take the board's end
+            lower = issueRepository.findMaxRankKey(boardId);
+        }
+        String rankKey = RankKeys.between(lower, upper);
+
+        if (!boardId.equals(before.getBoardId())) {
+            String projectId = boardRepository.findProjectIdById(boardId)
+                    .orElseThrow(() -> new RuntimeException("Board not found"));
+            issue.setBoard(entityManager.getReference(Board.class, boardId));
+            issue.setProject(entityManager.getReference(Project.class, projectId));
+            issue.setSprint(null);
+        }
+        issue.setStatus(status);
+        issue.setRankKey(rankKey);
+
+        Issue updated = issueRepository.saveAndFlush(issue);
+        IssueDTO after = mapToDTO(updated);
+        if (boardId.equals(before.getBoardId())) {
+            publish(IssueChange.updated(before, after));
+        } else {
+            publish(IssueChange.deleted(before));
+            publish(IssueChange.created(after));
+        }
+        rankRebalancer.onRankAssigned(boardId, rankKey);
+        return after;
     }
 
     @Transactional
     public void deleteIssue(String id) {
-        issueRepository.deleteById(id);
+        issueRepository.findLiveById(id).ifPresent(issue -> {
+            IssueDTO before = mapToDTO(issue);
+            issueRepository.delete(issue);
+            publish(IssueChange.deleted(before));
+        });
+    }
+
+    private String neighbourRank(String neighbourId, String movedId, String boardId, Issue.IssueStatus status) {
+        if (neighbourId == null) {
+            return null;
+        }
+        if (neighbourId.equals(movedId)) {
+            throw new BadRequestException("An issue cannot be its own neighbour");
+        }
+        IssueRepository.RankPosition neighbour = issueRepository.findRankPositionForShare(neighbourId)
+                .orElseThrow(() -> new BadRequestException("Neighbour issue not found: " + neighbourId));
+        if (!boardId.equals(neighbour.getBoardId()) || !status.name().equals(neighbour.getStatus())) {
+            throw new BadRequestException("Neighbour issue " + neighbourId + " is not in the target column");
+        }
+        return neighbour.getRankKey();
+    }
+
+    private static void checkVersion(Issue issue, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(issue.getVersion())) {
+            throw new PreconditionFailedException("Issue " + issue.getId() + " is at version " + issue.getVersion());
+        }
+    }
+
+    private static Issue.IssueStatus parseStatus(String status) {
+        try {
+            return Issue.IssueStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status " + status);
+        }
+    }
+
+    private void publish(IssueChange change) {
+        IssueDTO state = change.after() != null ? change.after() : change.before();
+        eventPublisher.publishEvent(BoardIssuesChangedEvent.of(state.getBoardId(), change));
+    }
+
+    /**
+     * Rough retained size of a cached row in bytes, dominated by the free-text fields.
+     */
+    private static int estimateWeight(IssueDTO issue) {
+        int weight = 256;
+        if (issue.getTitle() != null) {
+            weight += 2 * issue.getTitle().length();
+        }
+        if (issue.getDescription() != null) {
+            weight += 2 * issue.getDescription().length();
+        }
+        return weight;
+    }
+
+    private String rankCursor(IssueDTO issue) {
+        return cursorPagination.encode(issue.getRankKey(), issue.getId());
     }
 
     private IssueDTO mapToDTO(Issue issue) {
@@ -96,8 +356,10 @@ public class IssueService {
                 .estimateHours(issue.getEstimateHours())
                 .timeSpentHours(issue.getTimeSpentHours())
                 .orderInColumn(issue.getOrderInColumn())
+                .rankKey(issue.getRankKey())
                 .createdAt(issue.getCreatedAt())
                 .updatedAt(issue.getUpdatedAt())
+                .version(issue.getVersion())
                 .build();
     }
 }
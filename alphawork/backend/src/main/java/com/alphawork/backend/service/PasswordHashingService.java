@@ -0,0 +1,199 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs password hashing on a dedicated, fixed-size pool with a bounded wait queue, so a
+ * burst of logins can occupy at most {@code threads} cores and every other request
+ * keeps being served. When the queue is full, or a hash cannot start and finish within
+ * {@code wait-timeout-ms}, callers get a {@link ServiceBusyException} (503 with
+ * Retry-After) instead of piling up behind the burst.
+ *
+ * <p>Hashes stored at a different BCrypt cost than the configured one are recomputed
+ * in the background after a successful login, whenever the pool has room for it.
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${alphawork.auth.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${alphawork.auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${alphawork.auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${alphawork.auth.hashing.wait-timeout-ms:2000}")
+    private long waitTimeoutMs;
+
+    @Value("${alphawork.auth.hashing.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchTimer;
+    private Timer waitTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        // Half the cores by default, leaving the rest for everything that is not a login
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return await(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> timed(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * True when the hash was produced at a BCrypt cost other than the configured one.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    /**
+     * Hashes the password at the configured cost in the background and hands the new
+     * hash to {@code onHashed}. Skipped when the pool is saturated; the next login
+     * tries again.
+     */
+    public boolean rehashInBackground(CharSequence rawPassword, Consumer<String> onHashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+                } catch (Exception e) {
+                    log.warn("Could not store rehashed password", e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private <T> T await(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (waitTimer != null) {
+                    waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Still queued tasks are dropped; one already hashing finishes unobserved
+            future.cancel(false);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        if (rejected != null) {
+            rejected.increment();
+        }
+        return new ServiceBusyException("Too many concurrent sign-ins, please retry shortly", retryAfterSeconds);
+    }
+
+    private static <T> T timed(Timer timer, Callable<T> work) throws Exception {
+        return timer != null ? timer.recordCallable(work) : work.call();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("alphawork.auth.password.hash")
+                .description("Time spent computing a password hash")
+                .tag("operation", "encode")
+                .register(registry);
+        matchTimer = Timer.builder("alphawork.auth.password.hash")
+                .description("Time spent computing a password hash")
+                .tag("operation", "match")
+                .register(registry);
+        waitTimer = Timer.builder("alphawork.auth.password.queue.wait")
+                .description("Time a hashing task waited for a worker")
+                .register(registry);
+        rejected = Counter.builder("alphawork.auth.password.rejected")
+                .description("Sign-ins turned away because the hashing pool was saturated")
+                .register(registry);
+        Gauge.builder("alphawork.auth.password.queue.size", this, service -> service.executor.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(registry);
+        Gauge.builder("alphawork.auth.password.queue.capacity", this, service -> service.queueCapacity)
+                .register(registry);
+        Gauge.builder("alphawork.auth.password.workers.active", this, service -> service.executor.getActiveCount())
+                .register(registry);
+        Gauge.builder("alphawork.auth.password.workers.max", this, service -> service.executor.getMaximumPoolSize())
+                .register(registry);
+    }
+}
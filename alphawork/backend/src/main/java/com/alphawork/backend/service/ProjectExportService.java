@@ -0,0 +1,194 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full project export as NDJSON: one line per project, board, sprint, issue, note, time
+ * log and audit record, each tagged with its kind in {@code record} (the rows have
+ * their own {@code type} columns), followed by an {@code end} record with the count per
+ * kind. A stream without that last line was cut short.
+ *
+ * <p>Every kind of record is read through a forward-only cursor that holds at most
+ * {@code fetch-size} rows, and each row is written with the streaming generator as it
+ * arrives, so memory use does not depend on the project's size. All reads share one
+ * read-only REPEATABLE READ transaction and therefore one snapshot.
+ */
+@Service
+public class ProjectExportService {
+
+    private static final String PROJECT_ID = "CAST(? AS uuid)";
+
+    private static final String LIVE_BOARDS = "SELECT id FROM boards WHERE project_id = " + PROJECT_ID +
+            " AND deleted_at IS NULL";
+
+    private static final String LIVE_ISSUES = "SELECT id FROM issues WHERE project_id = " + PROJECT_ID +
+            " AND board_id IN (" + LIVE_BOARDS + ")";
+
+    private static final List<Section> SECTIONS = List.of(
+            new Section("project", "SELECT id, name, description, organization_id, start_date, end_date, status, " +
+                    "created_at, updated_at FROM projects WHERE id = " + PROJECT_ID + " AND deleted_at IS NULL"),
+            new Section("board", "SELECT id, name, project_id, type, created_at, updated_at, version " +
+                    "FROM boards WHERE project_id = " + PROJECT_ID + " AND deleted_at IS NULL ORDER BY created_at, id"),
+            new Section("sprint", "SELECT id, name, goal, board_id, start_date, end_date, status, created_at, " +
+                    "updated_at, version FROM sprints WHERE board_id IN (" + LIVE_BOARDS + ") ORDER BY created_at, id"),
+            new Section("issue", "SELECT id, title, description, type, status, assignee_id, project_id, board_id, " +
+                    "sprint_id, estimate_hours, time_spent_hours, order_in_column, rank_key, created_at, updated_at, " +
+                    "version FROM issues WHERE project_id = " + PROJECT_ID + " AND board_id IN (" + LIVE_BOARDS + ") " +
+                    "ORDER BY board_id, rank_key, id"),
+            new Section("note", "SELECT id, issue_id, author_id, content, created_at, updated_at " +
+                    "FROM notes WHERE issue_id IN (" + LIVE_ISSUES + ")"),
+            new Section("timeLog", "SELECT id, issue_id, user_id, hours_spent, notes, created_at, updated_at " +
+                    "FROM time_logs WHERE issue_id IN (" + LIVE_ISSUES + ")"),
+            // Audit records name their entity by id only; the project and everything on its boards counts
+            new Section("auditLog", "SELECT id, user_id, action, entity_type, entity_id, before_state, after_state, " +
+                    "description, timestamp FROM audit_logs WHERE entity_id IN (" +
+                    "SELECT CAST(" + PROJECT_ID + " AS varchar) " +
+                    "UNION ALL SELECT CAST(id AS varchar) FROM boards WHERE project_id = " + PROJECT_ID + " AND deleted_at IS NULL " +
+                    "UNION ALL SELECT CAST(id AS varchar) FROM sprints WHERE board_id IN (" + LIVE_BOARDS + ") " +
+                    "UNION ALL SELECT CAST(id AS varchar) FROM (" + LIVE_ISSUES + ") i)"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${alphawork.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Checked before the response is committed, since a failure once rows are
+     * streaming can no longer change the status code.
+     */
+    public void requireProject(String projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void export(String projectId, OutputStream out) throws IOException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            // No separator between root values; each record ends its own line
+            generator.setRootValueSeparator(null);
+            for (Section section : SECTIONS) {
+                counts.put(section.record(), writeSection(generator, section, projectId));
+            }
+            generator.writeStartObject();
+            generator.writeStringField("record", "end");
+            generator.writeObjectField("counts", counts);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeSection(JsonGenerator generator, Section section, String projectId) {
+        long[] rows = {0};
+        String[][] fields = {null};
+        jdbcTemplate.query(con -> {
+            // Postgres only uses a cursor for forward-only statements with a fetch size,
+            // inside a transaction
+            PreparedStatement ps = con.prepareStatement(section.sql(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 1; i <= section.parameterCount(); i++) {
+                ps.setString(i, projectId);
+            }
+            return ps;
+        }, rs -> {
+            if (fields[0] == null) {
+                fields[0] = fieldNames(rs.getMetaData());
+            }
+            try {
+                writeRow(generator, section.record(), fields[0], rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static void writeRow(JsonGenerator generator, String record, String[] fields, ResultSet rs)
+            throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeStringField("record", record);
+        for (int column = 1; column <= fields.length; column++) {
+            Object value = rs.getObject(column);
+            if (value == null) {
+                continue;
+            }
+            generator.writeFieldName(fields[column - 1]);
+            if (value instanceof Timestamp timestamp) {
+                generator.writeObject(timestamp.toLocalDateTime());
+            } else if (value instanceof Date date) {
+                generator.writeObject(date.toLocalDate());
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.toString());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static String[] fieldNames(ResultSetMetaData metaData) throws SQLException {
+        String[] fields = new String[metaData.getColumnCount()];
+        for (int column = 1; column <= fields.length; column++) {
+            fields[column - 1] = camelCase(metaData.getColumnLabel(column));
+        }
+        return fields;
+    }
+
+    private static String camelCase(String column) {
+        StringBuilder name = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    /**
+     * One kind of record; every placeholder in its query is the project id.
+     */
+    private record Section(String record, String sql) {
+
+        int parameterCount() {
+            return (int) sql.chars().filter(c -> c == '?').count();
+        }
+    }
+}
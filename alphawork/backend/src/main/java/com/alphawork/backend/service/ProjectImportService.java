@@ -0,0 +1,702 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.domain.entity.User;
+import com.alphawork.backend.dto.BulkIssueResult;
+import com.alphawork.backend.dto.ImportJobDTO;
+import com.alphawork.backend.dto.ImportRecord;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.exception.BadRequestException;
+import com.alphawork.backend.repository.IssueRepository;
+import com.alphawork.backend.repository.ProjectRepository;
+import com.alphawork.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resumable project imports of issues with their notes and time logs, from NDJSON or
+ * CSV uploads of any size. The upload is parsed record by record and handled in
+ * chunks of {@code chunk-size}: the people a chunk names are looked up with one query,
+ * its records are validated in parallel slices on a small pool, and everything valid
+ * is inserted with one statement per table, in one transaction that also advances the
+ * job's checkpoint. Boards and sprints of the project are loaded once per upload.
+ *
+ * <p>Invalid records are skipped and reported. When an upload breaks off, because the
+ * payload is malformed or the connection drops, the job is interrupted; sending the
+ * upload again skips every record up to the checkpoint and carries on from there.
+ */
+@Service
+public class ProjectImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectImportService.class);
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final String CREATE_JOB_SQL = "INSERT INTO import_jobs (id, project_id, created_by, status) " +
+            "VALUES (CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), 'CREATED')";
+
+    private static final String CLAIM_JOB_SQL = "UPDATE import_jobs SET status = 'RUNNING', message = NULL, updated_at = now() " +
+            "WHERE id = CAST(? AS uuid) AND (status IN ('CREATED', 'INTERRUPTED') " +
+            "OR (status = 'RUNNING' AND updated_at < now() - make_interval(secs => ?))) " +
+            "RETURNING CAST(project_id AS varchar) AS project_id, records_committed";
+
+    private static final String JOB_SQL = "SELECT CAST(j.id AS varchar) AS id, CAST(j.project_id AS varchar) AS project_id, " +
+            "j.status, j.records_committed, j.records_failed, j.issues_imported, j.notes_imported, j.time_logs_imported, " +
+            "j.message, j.created_at, j.updated_at, j.finished_at, e.record_index, e.message AS error " +
+            "FROM import_jobs j LEFT JOIN import_job_errors e ON e.job_id = j.id " +
+            "WHERE j.id = CAST(? AS uuid) ORDER BY e.record_index";
+
+    private static final String BOARDS_SQL = "SELECT CAST(id AS varchar) AS id, name FROM boards " +
+            "WHERE project_id = CAST(? AS uuid) AND deleted_at IS NULL";
+
+    private static final String SPRINTS_SQL = "SELECT CAST(s.id AS varchar) AS id, CAST(s.board_id AS varchar) AS board_id, s.name " +
+            "FROM sprints s JOIN boards b ON b.id = s.board_id " +
+            "WHERE b.project_id = CAST(? AS uuid) AND b.deleted_at IS NULL";
+
+    private static final String INSERT_ISSUES_SQL = "INSERT INTO issues " +
+            "(id, title, description, type, status, assignee_id, project_id, board_id, sprint_id, " +
+            "estimate_hours, time_spent_hours, order_in_column, rank_key, created_at, updated_at) " +
+            "SELECT r.id, r.title, r.description, r.type, r.status, r.assignee_id, CAST(? AS uuid), r.board_id, r.sprint_id, " +
+            "r.estimate_hours, r.time_spent_hours, 0, r.rank_key, r.created_at, r.created_at " +
+            "FROM unnest(CAST(? AS uuid[]), CAST(? AS text[]), CAST(? AS text[]), CAST(? AS text[]), CAST(? AS text[]), " +
+            "CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS int[]), CAST(? AS int[]), " +
+            "CAST(? AS text[]), CAST(? AS timestamp[])) " +
+            "AS r(id, title, description, type, status, assignee_id, board_id, sprint_id, estimate_hours, " +
+            "time_spent_hours, rank_key, created_at)";
+
+    private static final String INSERT_NOTES_SQL = "INSERT INTO notes (id, issue_id, author_id, content, created_at, updated_at) " +
+            "SELECT n.id, n.issue_id, n.author_id, n.content, n.created_at, n.created_at " +
+            "FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS text[]), CAST(? AS timestamp[])) " +
+            "AS n(id, issue_id, author_id, content, created_at)";
+
+    private static final String INSERT_TIME_LOGS_SQL = "INSERT INTO time_logs " +
+            "(id, issue_id, user_id, hours_spent, notes, created_at, updated_at) " +
+            "SELECT t.id, t.issue_id, t.user_id, t.hours, t.notes, t.created_at, t.created_at " +
+            "FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS int[]), CAST(? AS text[]), " +
+            "CAST(? AS timestamp[])) AS t(id, issue_id, user_id, hours, notes, created_at)";
+
+    private static final String INSERT_ERRORS_SQL = "INSERT INTO import_job_errors (job_id, record_index, message) " +
+            "SELECT CAST(? AS uuid), e.record_index, e.message " +
+            "FROM unnest(CAST(? AS bigint[]), CAST(? AS text[])) AS e(record_index, message) " +
+            "ORDER BY e.record_index " +
+            "LIMIT GREATEST(? - (SELECT count(*) FROM import_job_errors WHERE job_id = CAST(? AS uuid)), 0)";
+
+    private static final String CHECKPOINT_SQL = "UPDATE import_jobs SET records_committed = ?, " +
+            "records_failed = records_failed + ?, issues_imported = issues_imported + ?, " +
+            "notes_imported = notes_imported + ?, time_logs_imported = time_logs_imported + ?, updated_at = now() " +
+            "WHERE id = CAST(? AS uuid)";
+
+    private static final String COMPLETE_SQL = "UPDATE import_jobs SET status = 'COMPLETED', updated_at = now(), " +
+            "finished_at = now() WHERE id = CAST(? AS uuid)";
+
+    private static final String INTERRUPT_SQL = "UPDATE import_jobs SET status = 'INTERRUPTED', message = ?, " +
+            "updated_at = now() WHERE id = CAST(? AS uuid)";
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 3000;
+    private static final int MAX_TIME_LOG_NOTES_LENGTH = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueRankRebalancer rankRebalancer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${alphawork.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${alphawork.import.validation-threads:0}")
+    private int validationThreads;
+
+    @Value("${alphawork.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${alphawork.import.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private ExecutorService validationPool;
+    private int slices;
+
+    @PostConstruct
+    void init() {
+        slices = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        validationPool = Executors.newFixedThreadPool(slices, runnable -> {
+            Thread thread = new Thread(runnable, "import-validation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdownNow();
+    }
+
+    public ImportJobDTO createJob(String projectId, String userId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        String jobId = UUID.randomUUID().toString();
+        jdbcTemplate.update(CREATE_JOB_SQL, jobId, projectId, userId);
+        return getJob(jobId);
+    }
+
+    public ImportJobDTO getJob(String jobId) {
+        ImportJobDTO[] job = {null};
+        List<BulkIssueResult.ItemError> errors = new ArrayList<>();
+        jdbcTemplate.query(JOB_SQL, rs -> {
+            if (job[0] == null) {
+                job[0] = ImportJobDTO.builder()
+                        .id(rs.getString("id"))
+                        .projectId(rs.getString("project_id"))
+                        .status(rs.getString("status"))
+                        .recordsCommitted(rs.getLong("records_committed"))
+                        .recordsFailed(rs.getLong("records_failed"))
+                        .issuesImported(rs.getLong("issues_imported"))
+                        .notesImported(rs.getLong("notes_imported"))
+                        .timeLogsImported(rs.getLong("time_logs_imported"))
+                        .message(rs.getString("message"))
+                        .errors(errors)
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                        .finishedAt(rs.getTimestamp("finished_at") != null
+                                ? rs.getTimestamp("finished_at").toLocalDateTime() : null)
+                        .build();
+            }
+            String error = rs.getString("error");
+            if (error != null) {
+                errors.add(new BulkIssueResult.ItemError((int) rs.getLong("record_index"), error));
+            }
+        }, uuid(jobId, "import job id"));
+        if (job[0] == null) {
+            throw new RuntimeException("Import job not found");
+        }
+        return job[0];
+    }
+
+    /**
+     * Reads the upload to its end, or up to the first record that cannot be parsed, and
+     * returns the job's state afterwards. Records before the job's checkpoint are parsed
+     * but skipped, so an upload sent again after an interruption resumes where the last
+     * one stopped.
+     */
+    public ImportJobDTO importRecords(String jobId, InputStream upload, Format format) {
+        Claim claim = claim(uuid(jobId, "import job id"));
+        long index = 0;
+        try {
+            Iterator<ImportRecord> records = reader(format).readValues(upload);
+            ImportContext context = loadContext(claim.projectId());
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                ImportRecord record;
+                try {
+                    if (!records.hasNext()) {
+                        break;
+                    }
+                    record = records.next();
+                } catch (RuntimeException e) {
+                    // Keep what was read so far; a corrected upload resumes right at this record
+                    writeChunk(jobId, context, index - chunk.size(), chunk);
+                    interrupt(jobId, "Could not read record " + index + ": " + rootMessage(e));
+                    return getJob(jobId);
+                }
+                if (index++ < claim.recordsCommitted()) {
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(jobId, context, index - chunk.size(), chunk);
+                    chunk.clear();
+                }
+            }
+            writeChunk(jobId, context, index - chunk.size(), chunk);
+            jdbcTemplate.update(COMPLETE_SQL, jobId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import job {} interrupted at record {}", jobId, index, e);
+            interrupt(jobId, rootMessage(e));
+        }
+        return getJob(jobId);
+    }
+
+    private Claim claim(String jobId) {
+        List<Claim> claimed = jdbcTemplate.query(CLAIM_JOB_SQL,
+                (rs, rowNum) -> new Claim(rs.getString("project_id"), rs.getLong("records_committed")),
+                jobId, staleAfterMs / 1000.0);
+        if (claimed.isEmpty()) {
+            String status = getJob(jobId).getStatus();
+            throw new BadRequestException("Import job " + jobId + " is " + status.toLowerCase() + " and cannot take an upload");
+        }
+        return claimed.get(0);
+    }
+
+    private void interrupt(String jobId, String message) {
+        jdbcTemplate.update(INTERRUPT_SQL, message, jobId);
+    }
+
+    private ObjectReader reader(Format format) {
+        if (format == Format.CSV) {
+            return csvMapper.readerFor(ImportRecord.class).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(ImportRecord.class);
+    }
+
+    private ImportContext loadContext(String projectId) {
+        ImportContext context = new ImportContext(projectId);
+        jdbcTemplate.query(BOARDS_SQL, rs -> {
+            String id = rs.getString("id");
+            context.boardIds.add(id);
+            // A name shared by several boards cannot identify one
+            context.boardsByName.merge(rs.getString("name"), Optional.of(id), (a, b) -> Optional.empty());
+        }, projectId);
+        jdbcTemplate.query(SPRINTS_SQL, rs -> {
+            String id = rs.getString("id");
+            String boardId = rs.getString("board_id");
+            context.sprintBoards.put(id, boardId);
+            context.sprintsByName.merge(boardId + '\n' + rs.getString("name"), Optional.of(id), (a, b) -> Optional.empty());
+        }, projectId);
+        return context;
+    }
+
+    private void writeChunk(String jobId, ImportContext context, long firstIndex, List<ImportRecord> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        resolveUsers(context, chunk);
+
+        // Postgres keeps microseconds; events should carry the stored value
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Object[] results = validateInParallel(context, chunk, now);
+
+        List<PendingImport> valid = new ArrayList<>(chunk.size());
+        List<Long> errorIndexes = new ArrayList<>();
+        List<String> errorMessages = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof PendingImport pending) {
+                valid.add(pending);
+            } else {
+                errorIndexes.add(firstIndex + i);
+                errorMessages.add((String) results[i]);
+            }
+        }
+        int[] counts = new int[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            assignRanks(valid);
+            insertIssues(context.projectId, valid);
+            counts[0] = insertNotes(valid);
+            counts[1] = insertTimeLogs(valid);
+            if (!errorIndexes.isEmpty()) {
+                jdbcTemplate.update(INSERT_ERRORS_SQL, jobId, errorIndexes.toArray(Long[]::new),
+                        errorMessages.toArray(String[]::new), maxErrors, jobId);
+            }
+            jdbcTemplate.update(CHECKPOINT_SQL, firstIndex + chunk.size(), errorIndexes.size(), valid.size(),
+                    counts[0], counts[1], jobId);
+            publishCreated(valid);
+        });
+    }
+
+    /**
+     * Appends the chunk's issues to the end of their boards in upload order. Large imports
+     * outgrow the room after a board's last card faster than the background rebalancer
+     * runs, so the board is respaced right away when the keys would get too long. Runs in
+     * the chunk's transaction and reads the board's last key afresh, since cards created or
+     * moved since the previous chunk, or a rebalance, change it. The boards' rank locks are
+     * taken in id order first and held until the chunk commits.
+     */
+    private void assignRanks(List<PendingImport> valid) {
+        Map<String, List<PendingImport>> byBoard = new TreeMap<>();
+        valid.forEach(pending -> byBoard.computeIfAbsent(pending.boardId(), boardId -> new ArrayList<>()).add(pending));
+        byBoard.forEach((boardId, issues) -> {
+            rankRebalancer.lockBoard(boardId);
+            List<String> keys = RankKeys.after(issueRepository.findMaxRankKey(boardId), issues.size());
+            if (keys.get(keys.size() - 1).length() > RankKeys.MAX_WIDTH) {
+                rankRebalancer.rebalance(boardId);
+                keys = RankKeys.after(issueRepository.findMaxRankKey(boardId), issues.size());
+            }
+            for (int i = 0; i < issues.size(); i++) {
+                issues.get(i).issue().setRankKey(keys.get(i));
+            }
+        });
+    }
+
+    /**
+     * One query for every email of the chunk that earlier chunks have not resolved yet.
+     */
+    private void resolveUsers(ImportContext context, List<ImportRecord> chunk) {
+        Set<String> emails = new HashSet<>();
+        for (ImportRecord record : chunk) {
+            if (record == null) {
+                continue;
+            }
+            emails.add(record.getAssigneeEmail());
+            if (record.getNotes() != null) {
+                record.getNotes().forEach(note -> emails.add(note != null ? note.getAuthorEmail() : null));
+            }
+            if (record.getTimeLogs() != null) {
+                record.getTimeLogs().forEach(timeLog -> emails.add(timeLog != null ? timeLog.getUserEmail() : null));
+            }
+        }
+        emails.remove(null);
+        emails.removeAll(context.users.keySet());
+        if (emails.isEmpty()) {
+            return;
+        }
+        for (User user : userRepository.findByEmailIn(emails)) {
+            context.users.put(user.getEmail(), Optional.of(user.getId().toString()));
+        }
+        emails.forEach(email -> context.users.putIfAbsent(email, Optional.empty()));
+    }
+
+    /**
+     * Validates slices of the chunk concurrently. The context is only read here, and
+     * each slice writes its own part of the result, a PendingImport or an error message
+     * per record.
+     */
+    private Object[] validateInParallel(ImportContext context, List<ImportRecord> chunk, LocalDateTime now) {
+        Object[] results = new Object[chunk.size()];
+        int sliceSize = (chunk.size() + slices - 1) / slices;
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, chunk.size());
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    try {
+                        results[i] = validate(context, chunk.get(i), now);
+                    } catch (IllegalArgumentException e) {
+                        results[i] = e.getMessage();
+                    }
+                }
+            }, validationPool));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return results;
+    }
+
+    private static PendingImport validate(ImportContext context, ImportRecord record, LocalDateTime now) {
+        if (record == null) {
+            throw new IllegalArgumentException("Record is empty");
+        }
+        if (record.getTitle() == null || record.getTitle().isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        if (record.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("title must be at most " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (record.getDescription() != null && record.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("description must be at most " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        Issue.IssueType type = parseEnum(Issue.IssueType.class, record.getType(), "type");
+        Issue.IssueStatus status = record.getStatus() != null
+                ? parseEnum(Issue.IssueStatus.class, record.getStatus(), "status")
+                : Issue.IssueStatus.TODO;
+        String boardId = resolveBoard(context, record);
+        String sprintId = resolveSprint(context, record, boardId);
+        String assigneeId = record.getAssigneeEmail() != null ? user(context, record.getAssigneeEmail()) : null;
+        int estimate = nonNegative(record.getEstimateHours(), "estimateHours");
+
+        String issueId = UUID.randomUUID().toString();
+        LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : now;
+
+        List<PendingNote> notes = new ArrayList<>();
+        if (record.getNotes() != null) {
+            for (ImportRecord.Note note : record.getNotes()) {
+                if (note == null || note.getContent() == null || note.getContent().isBlank()) {
+                    throw new IllegalArgumentException("Note content is required");
+                }
+                if (note.getAuthorEmail() == null) {
+                    throw new IllegalArgumentException("Note authorEmail is required");
+                }
+                notes.add(new PendingNote(user(context, note.getAuthorEmail()), note.getContent(),
+                        note.getCreatedAt() != null ? note.getCreatedAt() : createdAt));
+            }
+        }
+
+        List<PendingTimeLog> timeLogs = new ArrayList<>();
+        int logged = 0;
+        if (record.getTimeLogs() != null) {
+            for (ImportRecord.TimeLog timeLog : record.getTimeLogs()) {
+                if (timeLog == null || timeLog.getHoursSpent() == null || timeLog.getHoursSpent() <= 0) {
+                    throw new IllegalArgumentException("Time log hoursSpent must be positive");
+                }
+                if (timeLog.getUserEmail() == null) {
+                    throw new IllegalArgumentException("Time log userEmail is required");
+                }
+                if (timeLog.getNotes() != null && timeLog.getNotes().length() > MAX_TIME_LOG_NOTES_LENGTH) {
+                    throw new IllegalArgumentException("Time log notes must be at most " + MAX_TIME_LOG_NOTES_LENGTH + " characters");
+                }
+                timeLogs.add(new PendingTimeLog(user(context, timeLog.getUserEmail()), timeLog.getHoursSpent(),
+                        timeLog.getNotes(), timeLog.getCreatedAt() != null ? timeLog.getCreatedAt() : createdAt));
+                logged += timeLog.getHoursSpent();
+            }
+        }
+        // Time spent is what the logs add up to unless the record states it
+        int spent = record.getTimeSpentHours() != null ? nonNegative(record.getTimeSpentHours(), "timeSpentHours") : logged;
+
+        IssueDTO issue = IssueDTO.builder()
+                .id(issueId)
+                .title(record.getTitle())
+                .description(record.getDescription())
+                .type(type.name())
+                .status(status.name())
+                .assigneeId(assigneeId)
+                .projectId(context.projectId)
+                .boardId(boardId)
+                .sprintId(sprintId)
+                .estimateHours(estimate)
+                .timeSpentHours(spent)
+                .orderInColumn(0)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(0L)
+                .build();
+        return new PendingImport(issue, boardId, notes, timeLogs);
+    }
+
+    private static String resolveBoard(ImportContext context, ImportRecord record) {
+        if (record.getBoardId() != null) {
+            if (!context.boardIds.contains(record.getBoardId())) {
+                throw new IllegalArgumentException("Board not found in project: " + record.getBoardId());
+            }
+            return record.getBoardId();
+        }
+        if (record.getBoard() == null) {
+            throw new IllegalArgumentException("boardId or board is required");
+        }
+        Optional<String> board = context.boardsByName.get(record.getBoard());
+        if (board == null) {
+            throw new IllegalArgumentException("Board not found in project: " + record.getBoard());
+        }
+        return board.orElseThrow(() -> new IllegalArgumentException("Board name is ambiguous: " + record.getBoard()));
+    }
+
+    private static String resolveSprint(ImportContext context, ImportRecord record, String boardId) {
+        if (record.getSprintId() != null) {
+            if (!boardId.equals(context.sprintBoards.get(record.getSprintId()))) {
+                throw new IllegalArgumentException("Sprint not found on board: " + record.getSprintId());
+            }
+            return record.getSprintId();
+        }
+        if (record.getSprint() == null) {
+            return null;
+        }
+        Optional<String> sprint = context.sprintsByName.get(boardId + '\n' + record.getSprint());
+        if (sprint == null) {
+            throw new IllegalArgumentException("Sprint not found on board: " + record.getSprint());
+        }
+        return sprint.orElseThrow(() -> new IllegalArgumentException("Sprint name is ambiguous: " + record.getSprint()));
+    }
+
+    private static String user(ImportContext context, String email) {
+        return context.users.getOrDefault(email, Optional.empty())
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
+    }
+
+    private void insertIssues(String projectId, List<PendingImport> valid) {
+        if (valid.isEmpty()) {
+            return;
+        }
+        List<IssueDTO> issues = valid.stream().map(PendingImport::issue).toList();
+        jdbcTemplate.update(INSERT_ISSUES_SQL, projectId,
+                issues.stream().map(IssueDTO::getId).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getTitle).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getDescription).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getType).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getStatus).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getAssigneeId).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getBoardId).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getSprintId).toArray(String[]::new),
+                issues.stream().map(IssueDTO::getEstimateHours).toArray(Integer[]::new),
+                issues.stream().map(IssueDTO::getTimeSpentHours).toArray(Integer[]::new),
+                issues.stream().map(IssueDTO::getRankKey).toArray(String[]::new),
+                issues.stream().map(issue -> Timestamp.valueOf(issue.getCreatedAt()).toString()).toArray(String[]::new));
+    }
+
+    private int insertNotes(List<PendingImport> valid) {
+        List<String> ids = new ArrayList<>();
+        List<String> issueIds = new ArrayList<>();
+        List<String> authors = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        List<String> createdAt = new ArrayList<>();
+        for (PendingImport pending : valid) {
+            for (PendingNote note : pending.notes()) {
+                ids.add(UUID.randomUUID().toString());
+                issueIds.add(pending.issue().getId());
+                authors.add(note.authorId());
+                contents.add(note.content());
+                createdAt.add(Timestamp.valueOf(note.createdAt()).toString());
+            }
+        }
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(INSERT_NOTES_SQL, ids.toArray(String[]::new), issueIds.toArray(String[]::new),
+                    authors.toArray(String[]::new), contents.toArray(String[]::new), createdAt.toArray(String[]::new));
+        }
+        return ids.size();
+    }
+
+    private int insertTimeLogs(List<PendingImport> valid) {
+        List<String> ids = new ArrayList<>();
+        List<String> issueIds = new ArrayList<>();
+        List<String> users = new ArrayList<>();
+        List<Integer> hours = new ArrayList<>();
+        List<String> notes = new ArrayList<>();
+        List<String> createdAt = new ArrayList<>();
+        for (PendingImport pending : valid) {
+            for (PendingTimeLog timeLog : pending.timeLogs()) {
+                ids.add(UUID.randomUUID().toString());
+                issueIds.add(pending.issue().getId());
+                users.add(timeLog.userId());
+                hours.add(timeLog.hours());
+                notes.add(timeLog.notes());
+                createdAt.add(Timestamp.valueOf(timeLog.createdAt()).toString());
+            }
+        }
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update(INSERT_TIME_LOGS_SQL, ids.toArray(String[]::new), issueIds.toArray(String[]::new),
+                    users.toArray(String[]::new), hours.toArray(Integer[]::new), notes.toArray(String[]::new),
+                    createdAt.toArray(String[]::new));
+        }
+        return ids.size();
+    }
+
+    private void publishCreated(List<PendingImport> valid) {
+        Map<String, List<IssueChange>> changesByBoard = new LinkedHashMap<>();
+        for (PendingImport pending : valid) {
+            changesByBoard.computeIfAbsent(pending.boardId(), boardId -> new ArrayList<>())
+                    .add(IssueChange.created(pending.issue()));
+        }
+        changesByBoard.forEach((boardId, changes) ->
+                eventPublisher.publishEvent(new BoardIssuesChangedEvent(boardId, changes)));
+    }
+
+    private static int nonNegative(Integer value, String field) {
+        if (value == null) {
+            return 0;
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException(field + " must not be negative");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + field + " " + value);
+        }
+    }
+
+    private static String uuid(String value, String field) {
+        try {
+            return UUID.fromString(value).toString();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + " " + value);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e instanceof UncheckedIOException ? e.getCause() : e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private record Claim(String projectId, long recordsCommitted) {
+    }
+
+    private record PendingImport(IssueDTO issue, String boardId, List<PendingNote> notes, List<PendingTimeLog> timeLogs) {
+    }
+
+    private record PendingNote(String authorId, String content, LocalDateTime createdAt) {
+    }
+
+    private record PendingTimeLog(String userId, int hours, String notes, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Lookups for one upload. Boards and sprints are loaded up front; users fill in chunk
+     * by chunk. Written only between parallel validations, never during one.
+     */
+    private static final class ImportContext {
+        private final String projectId;
+        private final Set<String> boardIds = new HashSet<>();
+        private final Map<String, Optional<String>> boardsByName = new HashMap<>();
+        private final Map<String, String> sprintBoards = new HashMap<>();
+        private final Map<String, Optional<String>> sprintsByName = new HashMap<>();
+        private final Map<String, Optional<String>> users = new HashMap<>();
+
+        private ImportContext(String projectId) {
+            this.projectId = projectId;
+        }
+    }
+}
@@ -1,21 +1,55 @@
 package com.alphawork.backend.service;
 
+import com.alphawork.backend.domain.entity.Board;
 import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.dto.CursorPage;
 import com.alphawork.backend.dto.ProjectDTO;
+import com.alphawork.backend.event.BoardSprintsChangedEvent;
 import com.alphawork.backend.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("alphawork.service")
 public class ProjectService {
 
+    private static final SparseFields<ProjectDTO> PROJECT_FIELDS = new SparseFields<>(ProjectDTO::new)
+            .column("id", "p.id", (project, value) -> project.setId((String) value))
+            .column("name", "p.name", (project, value) -> project.setName((String) value))
+            .column("description", "p.description", (project, value) -> project.setDescription((String) value))
+            .column("organizationId", "p.organization.id", (project, value) -> project.setOrganizationId((String) value))
+            .column("startDate", "p.startDate", (project, value) -> project.setStartDate((LocalDate) value))
+            .column("endDate", "p.endDate", (project, value) -> project.setEndDate((LocalDate) value))
+            .column("status", "cast(p.status as String)", (project, value) -> project.setStatus((String) value))
+            .column("createdAt", "p.createdAt", (project, value) -> project.setCreatedAt((LocalDateTime) value))
+            .column("updatedAt", "p.updatedAt", (project, value) -> project.setUpdatedAt((LocalDateTime) value))
+            .card("id", "name", "status");
+
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     public ProjectDTO createProject(ProjectDTO dto, String organizationId) {
         Project project = new Project();
@@ -35,6 +69,46 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<ProjectDTO> getProjectsByOrganization(String organizationId, String cursor, Integer limit,
+                                                            String fields) {
+        SparseFields<ProjectDTO>.Selection selection = PROJECT_FIELDS.select(fields, "id", "createdAt");
+        if (selection != null) {
+            return loadProjectFields(selection, organizationId, cursor, limit);
+        }
+        List<Project> rows;
+        if (cursor == null) {
+            rows = projectRepository.findPageByOrganizationId(organizationId, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = projectRepository.findPageByOrganizationIdAfter(organizationId, key.timestampValue(), key.id(),
+                    cursorPagination.probe(limit));
+        }
+        List<ProjectDTO> projects = rows.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+        return cursorPagination.page(projects, limit,
+                project -> cursorPagination.encode(project.getCreatedAt(), project.getId()));
+    }
+
+    private CursorPage<ProjectDTO> loadProjectFields(SparseFields<ProjectDTO>.Selection selection, String organizationId,
+                                                     String cursor, Integer limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("organizationId", organizationId);
+        String where = "where p.organization.id = :organizationId ";
+        if (cursor != null) {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            where += "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) ";
+            parameters.put("createdAt", key.timestampValue());
+            parameters.put("id", key.id());
+        }
+        List<ProjectDTO> rows = selection.list(entityManager, "from Project p",
+                where + "order by p.createdAt, p.id", parameters, cursorPagination.probe(limit).getPageSize());
+        CursorPage<ProjectDTO> page = cursorPagination.page(rows, limit,
+                project -> cursorPagination.encode(project.getCreatedAt(), project.getId()));
+        selection.strip(page.getItems());
+        return page;
+    }
+
     public ProjectDTO getProject(String id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
@@ -56,9 +130,34 @@ public class ProjectService {
         return mapToDTO(updated);
     }
 
+    /**
+     * Soft delete: the project and its boards are tombstoned and disappear from reads at
+     * once, while everything below them is removed later by TombstonePurger.
+     */
     @Transactional
+    @SuppressWarnings("unchecked")
     public void deleteProject(String id) {
-        projectRepository.deleteById(id);
+        int tombstoned = entityManager.createNativeQuery(
+                        "UPDATE projects SET deleted_at = now() WHERE id = CAST(:id AS uuid) AND deleted_at IS NULL")
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Project.class)
+                .executeUpdate();
+        if (tombstoned == 0) {
+            return;
+        }
+        List<String> boardIds = entityManager.createNativeQuery(
+                        "SELECT CAST(id AS varchar) FROM boards WHERE project_id = CAST(:id AS uuid) AND deleted_at IS NULL")
+                .setParameter("id", id)
+                .getResultList();
+        // Kept apart from the SELECT: only executeUpdate invalidates the cached boards
+        entityManager.createNativeQuery(
+                        "UPDATE boards SET deleted_at = now() WHERE project_id = CAST(:id AS uuid) AND deleted_at IS NULL")
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Board.class)
+                .executeUpdate();
+        boardIds.forEach(boardId -> eventPublisher.publishEvent(new BoardSprintsChangedEvent(boardId, null, true)));
     }
 
     private ProjectDTO mapToDTO(Project project) {
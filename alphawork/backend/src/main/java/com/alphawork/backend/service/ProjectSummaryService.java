@@ -0,0 +1,165 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.dto.ProjectSummaryDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Project dashboard totals, kept incrementally like the sprint analytics. Every issue
+ * change becomes per-(board, status, type) deltas that are added to
+ * project_board_totals inside the writing transaction, so a summary is one read of a
+ * few rows per board, independent of how many issues the project holds.
+ */
+@Service
+public class ProjectSummaryService {
+
+    private static final String UPSERT_DELTA_SQL = "INSERT INTO project_board_totals " +
+            "(project_id, board_id, status, type, issue_count, estimate_hours, time_spent_hours) " +
+            "VALUES (CAST(? AS uuid), CAST(? AS uuid), ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (project_id, board_id, status, type) DO UPDATE SET " +
+            "issue_count = project_board_totals.issue_count + EXCLUDED.issue_count, " +
+            "estimate_hours = project_board_totals.estimate_hours + EXCLUDED.estimate_hours, " +
+            "time_spent_hours = project_board_totals.time_spent_hours + EXCLUDED.time_spent_hours";
+
+    private static final String SUMMARY_SQL = "SELECT CAST(b.id AS varchar) AS board_id, b.name, " +
+            "t.status, t.type, t.issue_count, t.estimate_hours, t.time_spent_hours " +
+            "FROM boards b LEFT JOIN project_board_totals t ON t.project_id = b.project_id AND t.board_id = b.id " +
+            "WHERE b.project_id = CAST(? AS uuid) AND b.deleted_at IS NULL " +
+            "ORDER BY b.created_at, b.id";
+
+    private static final Comparator<DeltaKey> KEY_ORDER = Comparator.comparing(DeltaKey::projectId)
+            .thenComparing(DeltaKey::boardId)
+            .thenComparing(DeltaKey::status)
+            .thenComparing(DeltaKey::type);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    /**
+     * Runs synchronously in the publishing transaction, so the totals commit or roll
+     * back together with the issue write. Rows are upserted in key order, so writers
+     * touching the same boards cannot deadlock on them.
+     */
+    @EventListener
+    public void onIssuesChanged(BoardIssuesChangedEvent event) {
+        Map<DeltaKey, int[]> deltas = new TreeMap<>(KEY_ORDER);
+        for (IssueChange change : event.changes()) {
+            accumulate(deltas, change.before(), -1);
+            accumulate(deltas, change.after(), 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0 && delta[2] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<DeltaKey, int[]>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, rows, rows.size(), (ps, row) -> {
+            DeltaKey key = row.getKey();
+            int[] delta = row.getValue();
+            ps.setString(1, key.projectId());
+            ps.setString(2, key.boardId());
+            ps.setString(3, key.status());
+            ps.setString(4, key.type());
+            ps.setInt(5, delta[0]);
+            ps.setInt(6, delta[1]);
+            ps.setInt(7, delta[2]);
+        });
+    }
+
+    public ProjectSummaryDTO getSummary(String projectId) {
+        Map<String, ProjectSummaryDTO.BoardSummary> boards = new LinkedHashMap<>();
+        ProjectSummaryDTO.Totals project = emptyTotals();
+
+        jdbcTemplate.query(SUMMARY_SQL, rs -> {
+            String boardId = rs.getString("board_id");
+            ProjectSummaryDTO.BoardSummary board = boards.get(boardId);
+            if (board == null) {
+                board = ProjectSummaryDTO.BoardSummary.builder()
+                        .boardId(boardId)
+                        .name(rs.getString("name"))
+                        .totals(emptyTotals())
+                        .build();
+                boards.put(boardId, board);
+            }
+            String status = rs.getString("status");
+            if (status == null) {
+                // Board without any issues yet
+                return;
+            }
+            String type = rs.getString("type");
+            int count = rs.getInt("issue_count");
+            int estimate = rs.getInt("estimate_hours");
+            int spent = rs.getInt("time_spent_hours");
+            add(board.getTotals(), status, type, count, estimate, spent);
+            add(project, status, type, count, estimate, spent);
+        }, projectId);
+
+        if (boards.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        return ProjectSummaryDTO.builder()
+                .projectId(projectId)
+                .totals(project)
+                .boards(new ArrayList<>(boards.values()))
+                .build();
+    }
+
+    private static ProjectSummaryDTO.Totals emptyTotals() {
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        for (Issue.IssueStatus status : Issue.IssueStatus.values()) {
+            byStatus.put(status.name(), 0);
+        }
+        Map<String, Integer> byType = new LinkedHashMap<>();
+        for (Issue.IssueType type : Issue.IssueType.values()) {
+            byType.put(type.name(), 0);
+        }
+        return ProjectSummaryDTO.Totals.builder()
+                .issueCount(0)
+                .estimateHours(0)
+                .timeSpentHours(0)
+                .issuesByStatus(byStatus)
+                .issuesByType(byType)
+                .build();
+    }
+
+    private static void add(ProjectSummaryDTO.Totals totals, String status, String type,
+                            int count, int estimate, int spent) {
+        totals.setIssueCount(totals.getIssueCount() + count);
+        totals.setEstimateHours(totals.getEstimateHours() + estimate);
+        totals.setTimeSpentHours(totals.getTimeSpentHours() + spent);
+        totals.getIssuesByStatus().merge(status, count, Integer::sum);
+        totals.getIssuesByType().merge(type, count, Integer::sum);
+    }
+
+    private static void accumulate(Map<DeltaKey, int[]> deltas, IssueDTO issue, int sign) {
+        if (issue == null || issue.getProjectId() == null || issue.getBoardId() == null) {
+            return;
+        }
+        DeltaKey key = new DeltaKey(issue.getProjectId(), issue.getBoardId(), issue.getStatus(), issue.getType());
+        int[] delta = deltas.computeIfAbsent(key, k -> new int[3]);
+        delta[0] += sign;
+        delta[1] += sign * Objects.requireNonNullElse(issue.getEstimateHours(), 0);
+        delta[2] += sign * Objects.requireNonNullElse(issue.getTimeSpentHours(), 0);
+    }
+
+    private record DeltaKey(String projectId, String boardId, String status, String type) {
+    }
+}
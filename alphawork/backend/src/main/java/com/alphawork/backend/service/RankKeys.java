@@ -0,0 +1,182 @@
+package com.alphawork.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys for ordering cards within a board. Keys are base-36 strings
+ * ({@code 0-9a-z}) read as fractions in [0, 1), so there is always a key strictly
+ * between two others and a card can be moved by rewriting its own key only. The
+ * column is declared {@code COLLATE "C"} so the database orders them byte-wise,
+ * exactly like {@link String#compareTo}.
+ *
+ * <p>Fresh keys have up to {@value #WIDTH} digits and never end in '0'. Appending or
+ * prepending steps by a fixed amount while that fits; inserting between two cards
+ * takes the midpoint, which grows the key by about one digit every five inserts into
+ * the same gap, until the rebalancer respaces the board.
+ */
+public final class RankKeys {
+
+    static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    static final int BASE = DIGITS.length();
+    static final int WIDTH = 6;
+    static final int MAX_WIDTH = 12;
+
+    private static final long SPACE = pow(BASE, WIDTH);
+    private static final long STEP = pow(BASE, 3);
+
+    private RankKeys() {
+    }
+
+    /**
+     * A key strictly between {@code lower} and {@code upper}; either may be null for
+     * the start or end of the board.
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+        if (upper == null) {
+            return lower == null ? spaced(0, 1) : after(lower);
+        }
+        if (lower == null) {
+            return before(upper);
+        }
+        return midpoint(lower, upper);
+    }
+
+    /**
+     * Evenly spaced key for position {@code index} of {@code count} cards, leaving equal
+     * room before the first and after the last.
+     */
+    public static String spaced(int index, int count) {
+        int width = WIDTH;
+        while (pow(BASE, width) / (count + 1L) < STEP && width < MAX_WIDTH) {
+            width++;
+        }
+        return encode((index + 1L) * (pow(BASE, width) / (count + 1L)), width);
+    }
+
+    /**
+     * {@code count} ascending keys after {@code lower}, for appending many cards at once.
+     * They step like single appends at the narrowest width, up to {@value #MAX_WIDTH}
+     * digits, that still has room for all of them; past that they fall back to
+     * midpoints and the board is due for respacing.
+     */
+    public static List<String> after(String lower, int count) {
+        List<String> keys = new ArrayList<>(count);
+        String previous = lower;
+        if (previous == null && count > 0) {
+            previous = between(null, null);
+            keys.add(previous);
+        }
+        int remaining = count - keys.size();
+        for (int width = WIDTH; width <= MAX_WIDTH; width++) {
+            long start = decode(previous, width);
+            if (start + (remaining + 1L) * STEP <= pow(BASE, width)) {
+                for (int i = 1; i <= remaining; i++) {
+                    keys.add(encode(start + i * STEP, width));
+                }
+                return keys;
+            }
+        }
+        while (keys.size() < count) {
+            previous = midpoint(previous, null);
+            keys.add(previous);
+        }
+        return keys;
+    }
+
+    private static String after(String lower) {
+        if (lower.length() <= WIDTH) {
+            long next = decode(lower) + STEP;
+            if (next < SPACE) {
+                return encode(next, WIDTH);
+            }
+        }
+        return midpoint(lower, null);
+    }
+
+    private static String before(String upper) {
+        if (upper.length() <= WIDTH) {
+            long previous = decode(upper) - STEP;
+            if (previous > 0) {
+                return encode(previous, WIDTH);
+            }
+        }
+        return midpoint("", upper);
+    }
+
+    /**
+     * Digit-wise midpoint of two fractions; a null upper bound is 1.
+     */
+    private static String midpoint(String lower, String upper) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = upper == null ? BASE : i < upper.length() ? digit(upper.charAt(i)) : 0;
+            if (low == high) {
+                if (i >= lower.length() && upper != null && i >= upper.length()) {
+                    throw new IllegalArgumentException("Ranks " + lower + " and " + upper + " are equal");
+                }
+                key.append(DIGITS.charAt(low));
+                continue;
+            }
+            if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) / 2)).toString();
+            }
+            // Adjacent digits: keep the lower one, after which the upper bound no longer applies
+            key.append(DIGITS.charAt(low));
+            upper = null;
+        }
+    }
+
+    private static long decode(String key) {
+        return decode(key, WIDTH);
+    }
+
+    /**
+     * The first {@code width} digits of the key as a number; the key is at least that,
+     * and less than the number plus one.
+     */
+    private static long decode(String key, int width) {
+        long value = 0;
+        for (int i = 0; i < width; i++) {
+            value = value * BASE + (i < key.length() ? digit(key.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+    /**
+     * Fixed-width digits with trailing zeros dropped, so that like midpoints no key ends
+     * in '0' and two different keys always differ as fractions too.
+     */
+    private static String encode(long value, int width) {
+        char[] key = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            key[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && key[length - 1] == '0') {
+            length--;
+        }
+        return new String(key, 0, length);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank key character '" + c + "'");
+        }
+        return digit;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.dto.SearchResultDTO;
+import com.alphawork.backend.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked full-text search over issue titles, descriptions and notes, backed by the
+ * generated tsvector columns and GIN indexes from V5.
+ *
+ * <p>Matching and ranking touch only index hits inside the requested scope. Each source
+ * contributes its best {@code max-candidates} hits after the cursor, ordered like the
+ * page itself, so every page is cut from the same ranking and the best matches are
+ * never lost to the cap. Snippets are built with ts_headline for the rows of the
+ * returned page only, since it re-parses the document text. Pages are
+ * keyset-paginated on (rank desc, id).
+ */
+@Service
+public class SearchService {
+
+    private static final String TS_CONFIG = "'english'";
+
+    private static final String HEADLINE_OPTIONS =
+            "'MaxFragments=2, MaxWords=25, MinWords=8, StartSel=<mark>, StopSel=</mark>'";
+
+    private static final String PROJECT_SCOPE = "i.project_id = CAST(? AS uuid)";
+
+    private static final String ORGANIZATION_SCOPE =
+            "i.project_id IN (SELECT id FROM projects WHERE organization_id = CAST(? AS uuid))";
+
+    // Hides issues of deleted boards, and so of deleted projects, until they are purged
+    private static final String LIVE_BOARD =
+            " AND NOT EXISTS (SELECT 1 FROM boards b WHERE b.id = i.board_id AND b.deleted_at IS NOT NULL)";
+
+    private static final String ISSUE_RANK = "ts_rank(i.search_vector, q.query)";
+
+    private static final String NOTE_RANK = "ts_rank(n.search_vector, q.query)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Value("${alphawork.search.max-candidates:2000}")
+    private int maxCandidates;
+
+    @Value("${alphawork.search.max-query-length:256}")
+    private int maxQueryLength;
+
+    public CursorPage<SearchResultDTO> search(String query, String projectId, String organizationId,
+                                              String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("q is required");
+        }
+        if (query.length() > maxQueryLength) {
+            throw new BadRequestException("q must be at most " + maxQueryLength + " characters");
+        }
+        if ((projectId == null) == (organizationId == null)) {
+            throw new BadRequestException("Exactly one of projectId or organizationId is required");
+        }
+        String scope = (projectId != null ? PROJECT_SCOPE : ORGANIZATION_SCOPE) + LIVE_BOARD;
+        String scopeId = projectId != null ? uuid(projectId, "projectId") : uuid(organizationId, "organizationId");
+        int size = cursorPagination.resolveLimit(limit);
+
+        CursorPagination.Key after = cursor != null ? cursorPagination.decode(cursor) : null;
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+        for (int source = 0; source < 2; source++) {
+            args.add(scopeId);
+            if (after != null) {
+                args.add(after.floatValue());
+                args.add(after.floatValue());
+                args.add(after.uuidId());
+            }
+            args.add(maxCandidates);
+        }
+        args.add(size + 1);
+
+        List<SearchResultDTO> rows = jdbcTemplate.query(searchSql(scope, after != null), RESULT_MAPPER, args.toArray());
+        return cursorPagination.page(rows, size, this::rankCursor);
+    }
+
+    private static String searchSql(String scope, boolean afterCursor) {
+        return "WITH q AS (SELECT websearch_to_tsquery(" + TS_CONFIG + ", ?) AS query), " +
+                "hits AS (" +
+                "  (SELECT 'ISSUE' AS kind, i.id, i.id AS issue_id, " + ISSUE_RANK + " AS rank " +
+                "   FROM issues i, q WHERE i.search_vector @@ q.query AND " + scope +
+                (afterCursor ? afterCursor(ISSUE_RANK, "i.id") : "") + " ORDER BY rank DESC, i.id LIMIT ?) " +
+                "  UNION ALL " +
+                "  (SELECT 'NOTE' AS kind, n.id, n.issue_id, " + NOTE_RANK + " AS rank " +
+                "   FROM notes n JOIN issues i ON i.id = n.issue_id, q " +
+                "   WHERE n.search_vector @@ q.query AND " + scope +
+                (afterCursor ? afterCursor(NOTE_RANK, "n.id") : "") + " ORDER BY rank DESC, n.id LIMIT ?)" +
+                "), " +
+                "page AS (SELECT * FROM hits ORDER BY rank DESC, id LIMIT ?) " +
+                "SELECT p.kind, CAST(p.id AS varchar) AS id, CAST(p.issue_id AS varchar) AS issue_id, p.rank, " +
+                "CAST(i.project_id AS varchar) AS project_id, CAST(i.board_id AS varchar) AS board_id, i.status, " +
+                "CASE WHEN p.kind = 'ISSUE' THEN ts_headline(" + TS_CONFIG + ", i.title, q.query, " +
+                "  'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') ELSE i.title END AS title, " +
+                "ts_headline(" + TS_CONFIG + ", CASE WHEN p.kind = 'ISSUE' THEN coalesce(i.description, '') ELSE n.content END, " +
+                "  q.query, " + HEADLINE_OPTIONS + ") AS snippet " +
+                "FROM page p JOIN issues i ON i.id = p.issue_id " +
+                "LEFT JOIN notes n ON p.kind = 'NOTE' AND n.id = p.id, q " +
+                "ORDER BY p.rank DESC, p.id";
+    }
+
+    private static String uuid(String value, String field) {
+        try {
+            return UUID.fromString(value).toString();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + " " + value);
+        }
+    }
+
+    /**
+     * Applied inside each source, so the candidates of a page all come after the cursor.
+     */
+    private static String afterCursor(String rank, String id) {
+        return " AND (" + rank + " < ? OR (" + rank + " = ? AND " + id + " > CAST(? AS uuid)))";
+    }
+
+    private String rankCursor(SearchResultDTO result) {
+        return cursorPagination.encode(result.getRank(), result.getId());
+    }
+
+    private static final RowMapper<SearchResultDTO> RESULT_MAPPER = (rs, rowNum) -> SearchResultDTO.builder()
+            .type(rs.getString("kind"))
+            .id(rs.getString("id"))
+            .issueId(rs.getString("issue_id"))
+            .projectId(rs.getString("project_id"))
+            .boardId(rs.getString("board_id"))
+            .status(rs.getString("status"))
+            .title(rs.getString("title"))
+            .snippet(rs.getString("snippet"))
+            .rank(rs.getFloat("rank"))
+            .build();
+}
@@ -0,0 +1,147 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Sparse fieldsets for list endpoints. A {@code fields} parameter names the DTO
+ * properties a client wants, comma separated, or the compact {@value #CARD} preset.
+ * Only those columns are selected, into DTOs whose other properties stay null and so
+ * are left out of the JSON. Columns a page needs for its cursor are read as well and
+ * cleared again once the cursor is built.
+ */
+public final class SparseFields<T> {
+
+    public static final String CARD = "card";
+
+    private final Supplier<T> factory;
+    private final Map<String, Column<T>> columns = new LinkedHashMap<>();
+    private List<String> card = List.of();
+
+    public SparseFields(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public SparseFields<T> column(String name, String expression, BiConsumer<T, Object> setter) {
+        return column(name, expression, null, setter);
+    }
+
+    /**
+     * A column whose expression needs a join; the join is added only when the column
+     * is selected.
+     */
+    public SparseFields<T> column(String name, String expression, String join, BiConsumer<T, Object> setter) {
+        columns.put(name, new Column<>(expression, join, setter));
+        return this;
+    }
+
+    public SparseFields<T> card(String... names) {
+        card = List.of(names);
+        return this;
+    }
+
+    /**
+     * The columns to read for {@code fields}, plus the {@code required} ones; null when
+     * no fields were asked for and the full representation applies.
+     */
+    public Selection select(String fields, String... required) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.equals(CARD)) {
+                requested.addAll(card);
+            } else if (columns.containsKey(name)) {
+                requested.add(name);
+            } else {
+                throw new BadRequestException("Unknown field " + name + "; expected " + CARD +
+                        " or any of " + String.join(", ", columns.keySet()));
+            }
+        }
+        Set<String> selected = new LinkedHashSet<>(requested);
+        selected.addAll(List.of(required));
+        return new Selection(List.copyOf(requested), List.copyOf(selected));
+    }
+
+    public final class Selection {
+
+        private final List<String> requested;
+        private final List<String> selected;
+
+        private Selection(List<String> requested, List<String> selected) {
+            this.requested = requested;
+            this.selected = selected;
+        }
+
+        /**
+         * Identifies the representation, e.g. as part of a cache key.
+         */
+        public String key() {
+            return String.join(",", requested);
+        }
+
+        /**
+         * Runs {@code select <columns> <from> <joins> <rest>}, where {@code rest} holds the
+         * conditions and ordering; {@code maxResults} of 0 reads every row.
+         */
+        public List<T> list(EntityManager entityManager, String from, String rest,
+                            Map<String, Object> parameters, int maxResults) {
+            StringBuilder jpql = new StringBuilder("select ");
+            Set<String> joins = new LinkedHashSet<>();
+            for (int i = 0; i < selected.size(); i++) {
+                Column<T> column = columns.get(selected.get(i));
+                jpql.append(i > 0 ? ", " : "").append(column.expression());
+                if (column.join() != null) {
+                    joins.add(column.join());
+                }
+            }
+            jpql.append(' ').append(from);
+            joins.forEach(join -> jpql.append(' ').append(join));
+            jpql.append(' ').append(rest);
+
+            TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+            parameters.forEach(query::setParameter);
+            if (maxResults > 0) {
+                query.setMaxResults(maxResults);
+            }
+            List<T> rows = new ArrayList<>();
+            for (Tuple tuple : query.getResultList()) {
+                T row = factory.get();
+                for (int i = 0; i < selected.size(); i++) {
+                    columns.get(selected.get(i)).setter().accept(row, tuple.get(i));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        /**
+         * Clears the columns that were only read for paging.
+         */
+        public <C extends Iterable<T>> C strip(C rows) {
+            for (String name : selected) {
+                if (!requested.contains(name)) {
+                    BiConsumer<T, Object> setter = columns.get(name).setter();
+                    rows.forEach(row -> setter.accept(row, null));
+                }
+            }
+            return rows;
+        }
+    }
+
+    private record Column<T>(String expression, String join, BiConsumer<T, Object> setter) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.dto.BoardVelocityDTO;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.dto.SprintBurndownDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.exception.ResourceNotFoundException;
+import com.alphawork.backend.repository.SprintRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Sprint burndown and velocity, kept incrementally. Every issue change is turned into
+ * per-(sprint, status) deltas that are added to the row for the day of the change,
+ * inside the writing transaction. A burndown is then a running sum over the sprint's
+ * days and velocity a sum over a handful of sprints, independent of issue counts.
+ * Rows are upserted in key order, so writers touching the same sprints cannot deadlock
+ * on them.
+ */
+@Service
+public class SprintAnalyticsService {
+
+    private static final String UPSERT_DELTA_SQL = "INSERT INTO sprint_daily_deltas " +
+            "(sprint_id, stat_date, status, issue_count, estimate_hours, time_spent_hours) " +
+            "VALUES (CAST(? AS uuid), ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (sprint_id, stat_date, status) DO UPDATE SET " +
+            "issue_count = sprint_daily_deltas.issue_count + EXCLUDED.issue_count, " +
+            "estimate_hours = sprint_daily_deltas.estimate_hours + EXCLUDED.estimate_hours, " +
+            "time_spent_hours = sprint_daily_deltas.time_spent_hours + EXCLUDED.time_spent_hours";
+
+    private static final String SPRINT_DELTAS_SQL = "SELECT stat_date, status, issue_count, estimate_hours, time_spent_hours " +
+            "FROM sprint_daily_deltas WHERE sprint_id = CAST(? AS uuid) ORDER BY stat_date";
+
+    private static final String VELOCITY_SQL = "SELECT CAST(s.id AS varchar) AS id, s.name, s.start_date, s.end_date, " +
+            "COALESCE(SUM(d.estimate_hours), 0) AS committed, " +
+            "COALESCE(SUM(d.estimate_hours) FILTER (WHERE d.status = 'DONE'), 0) AS completed " +
+            "FROM (SELECT id, name, start_date, end_date FROM sprints " +
+            "      WHERE board_id = CAST(? AS uuid) AND status = 'COMPLETED' " +
+            "      AND board_id NOT IN (SELECT id FROM boards WHERE deleted_at IS NOT NULL) " +
+            "      ORDER BY end_date DESC LIMIT ?) s " +
+            "LEFT JOIN sprint_daily_deltas d ON d.sprint_id = s.id " +
+            "GROUP BY s.id, s.name, s.start_date, s.end_date " +
+            "ORDER BY s.end_date DESC";
+
+    private static final Comparator<DeltaKey> KEY_ORDER = Comparator.comparing(DeltaKey::sprintId)
+            .thenComparing(DeltaKey::status);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    /**
+     * Runs synchronously in the publishing transaction, so the aggregates commit or roll
+     * back together with the issue write that caused them.
+     */
+    @EventListener
+    public void onIssuesChanged(BoardIssuesChangedEvent event) {
+        Map<DeltaKey, int[]> deltas = new TreeMap<>(KEY_ORDER);
+        for (IssueChange change : event.changes()) {
+            accumulate(deltas, change.before(), -1);
+            accumulate(deltas, change.after(), 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0 && delta[2] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Date today = Date.valueOf(LocalDate.now(ZoneOffset.UTC));
+        List<Map.Entry<DeltaKey, int[]>> rows = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, rows, rows.size(), (ps, row) -> {
+            int[] delta = row.getValue();
+            ps.setString(1, row.getKey().sprintId());
+            ps.setDate(2, today);
+            ps.setString(3, row.getKey().status());
+            ps.setInt(4, delta[0]);
+            ps.setInt(5, delta[1]);
+            ps.setInt(6, delta[2]);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public SprintBurndownDTO getBurndown(String sprintId) {
+        Sprint sprint = sprintRepository.findLiveById(sprintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found"));
+        LocalDate start = sprint.getStartDate();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate end = sprint.getEndDate().isBefore(today) ? sprint.getEndDate() : today;
+
+        Map<Issue.IssueStatus, int[]> totals = new EnumMap<>(Issue.IssueStatus.class);
+        List<SprintBurndownDTO.Day> days = new ArrayList<>();
+        LocalDate[] cursor = {start};
+
+        jdbcTemplate.query(SPRINT_DELTAS_SQL, rs -> {
+            LocalDate date = rs.getDate("stat_date").toLocalDate();
+            // Close every day that ends before this delta, carrying the totals forward
+            while (date.isAfter(cursor[0]) && !cursor[0].isAfter(end)) {
+                days.add(snapshot(cursor[0], totals));
+                cursor[0] = cursor[0].plusDays(1);
+            }
+            int[] total = totals.computeIfAbsent(Issue.IssueStatus.valueOf(rs.getString("status")), s -> new int[3]);
+            total[0] += rs.getInt("issue_count");
+            total[1] += rs.getInt("estimate_hours");
+            total[2] += rs.getInt("time_spent_hours");
+        }, sprintId);
+        while (!cursor[0].isAfter(end)) {
+            days.add(snapshot(cursor[0], totals));
+            cursor[0] = cursor[0].plusDays(1);
+        }
+
+        return SprintBurndownDTO.builder()
+                .sprintId(sprintId)
+                .startDate(sprint.getStartDate())
+                .endDate(sprint.getEndDate())
+                .days(days)
+                .build();
+    }
+
+    public BoardVelocityDTO getVelocity(String boardId, int sprintCount) {
+        List<BoardVelocityDTO.SprintVelocity> sprints = jdbcTemplate.query(VELOCITY_SQL, (rs, rowNum) ->
+                BoardVelocityDTO.SprintVelocity.builder()
+                        .sprintId(rs.getString("id"))
+                        .name(rs.getString("name"))
+                        .startDate(rs.getDate("start_date").toLocalDate())
+                        .endDate(rs.getDate("end_date").toLocalDate())
+                        .committedHours(rs.getInt("committed"))
+                        .completedHours(rs.getInt("completed"))
+                        .build(), boardId, sprintCount);
+
+        Double average = sprints.isEmpty() ? null : sprints.stream()
+                .mapToInt(BoardVelocityDTO.SprintVelocity::getCompletedHours)
+                .average()
+                .orElse(0);
+
+        return BoardVelocityDTO.builder()
+                .boardId(boardId)
+                .sprints(sprints)
+                .averageCompletedHours(average)
+                .build();
+    }
+
+    private static SprintBurndownDTO.Day snapshot(LocalDate date, Map<Issue.IssueStatus, int[]> totals) {
+        int remaining = 0;
+        int completed = 0;
+        int spent = 0;
+        Map<String, Integer> issuesByStatus = new LinkedHashMap<>();
+        for (Map.Entry<Issue.IssueStatus, int[]> entry : totals.entrySet()) {
+            int[] total = entry.getValue();
+            if (entry.getKey() == Issue.IssueStatus.DONE) {
+                completed += total[1];
+            } else {
+                remaining += total[1];
+            }
+            spent += total[2];
+            issuesByStatus.put(entry.getKey().name(), total[0]);
+        }
+        return SprintBurndownDTO.Day.builder()
+                .date(date)
+                .remainingHours(remaining)
+                .completedHours(completed)
+                .timeSpentHours(spent)
+                .issuesByStatus(issuesByStatus)
+                .build();
+    }
+
+    private static void accumulate(Map<DeltaKey, int[]> deltas, IssueDTO issue, int sign) {
+        if (issue == null || issue.getSprintId() == null) {
+            return;
+        }
+        int[] delta = deltas.computeIfAbsent(new DeltaKey(issue.getSprintId(), issue.getStatus()), key -> new int[3]);
+        delta[0] += sign;
+        delta[1] += sign * Objects.requireNonNullElse(issue.getEstimateHours(), 0);
+        delta[2] += sign * Objects.requireNonNullElse(issue.getTimeSpentHours(), 0);
+    }
+
+    private record DeltaKey(String sprintId, String status) {
+    }
+}
@@ -2,21 +2,59 @@ package com.alphawork.backend.service;
 
 import com.alphawork.backend.domain.entity.Board;
 import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.dto.CursorPage;
 import com.alphawork.backend.dto.SprintDTO;
+import com.alphawork.backend.event.BoardSprintsChangedEvent;
+import com.alphawork.backend.exception.PreconditionFailedException;
+import com.alphawork.backend.exception.ResourceNotFoundException;
 import com.alphawork.backend.repository.SprintRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("alphawork.service")
 public class SprintService {
 
+    private static final SparseFields<SprintDTO> SPRINT_FIELDS = new SparseFields<>(SprintDTO::new)
+            .column("id", "s.id", (sprint, value) -> sprint.setId((String) value))
+            .column("name", "s.name", (sprint, value) -> sprint.setName((String) value))
+            .column("goal", "s.goal", (sprint, value) -> sprint.setGoal((String) value))
+            .column("boardId", "b.id", (sprint, value) -> sprint.setBoardId((String) value))
+            .column("startDate", "s.startDate", (sprint, value) -> sprint.setStartDate((LocalDate) value))
+            .column("endDate", "s.endDate", (sprint, value) -> sprint.setEndDate((LocalDate) value))
+            .column("status", "cast(s.status as String)", (sprint, value) -> sprint.setStatus((String) value))
+            .column("createdAt", "s.createdAt", (sprint, value) -> sprint.setCreatedAt((LocalDateTime) value))
+            .column("updatedAt", "s.updatedAt", (sprint, value) -> sprint.setUpdatedAt((LocalDateTime) value))
+            .column("version", "s.version", (sprint, value) -> sprint.setVersion((Long) value))
+            .card("id", "name", "status", "startDate", "endDate");
+
     @Autowired
     private SprintRepository sprintRepository;
 
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     public SprintDTO createSprint(SprintDTO dto) {
         Sprint sprint = new Sprint();
@@ -24,9 +62,12 @@ public class SprintService {
         sprint.setGoal(dto.getGoal());
         sprint.setStartDate(dto.getStartDate());
         sprint.setEndDate(dto.getEndDate());
+        if (dto.getBoardId() != null) sprint.setBoard(entityManager.getReference(Board.class, dto.getBoardId()));
 
         Sprint saved = sprintRepository.save(sprint);
-        return mapToDTO(saved);
+        SprintDTO created = mapToDTO(saved);
+        eventPublisher.publishEvent(new BoardSprintsChangedEvent(created.getBoardId(), created.getId(), false));
+        return created;
     }
 
     public List<SprintDTO> getSprintsByBoard(String boardId) {
@@ -36,16 +77,63 @@ public class SprintService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<SprintDTO> getSprintsByBoard(String boardId, String cursor, Integer limit, String fields) {
+        SparseFields<SprintDTO>.Selection selection = SPRINT_FIELDS.select(fields, "id", "createdAt");
+        String variant = cursor + ":" + limit + (selection != null ? ":" + selection.key() : "");
+        return boardSnapshotCache.get(BoardSnapshotCache.SPRINTS, boardId, variant,
+                () -> selection != null
+                        ? loadSprintFields(selection, boardId, cursor, limit)
+                        : loadSprintsByBoard(boardId, cursor, limit),
+                page -> page.getItems().size() * 512);
+    }
+
+    private CursorPage<SprintDTO> loadSprintsByBoard(String boardId, String cursor, Integer limit) {
+        List<Sprint> rows;
+        if (cursor == null) {
+            rows = sprintRepository.findPageByBoardId(boardId, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = sprintRepository.findPageByBoardIdAfter(boardId, key.timestampValue(), key.id(), cursorPagination.probe(limit));
+        }
+        List<SprintDTO> sprints = rows.stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+        return cursorPagination.page(sprints, limit,
+                sprint -> cursorPagination.encode(sprint.getCreatedAt(), sprint.getId()));
+    }
+
+    private CursorPage<SprintDTO> loadSprintFields(SparseFields<SprintDTO>.Selection selection, String boardId,
+                                                   String cursor, Integer limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("boardId", boardId);
+        String where = "where b.id = :boardId ";
+        if (cursor != null) {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            where += "and (s.createdAt > :createdAt or (s.createdAt = :createdAt and s.id > :id)) ";
+            parameters.put("createdAt", key.timestampValue());
+            parameters.put("id", key.id());
+        }
+        List<SprintDTO> rows = selection.list(entityManager, "from Sprint s join s.board b",
+                where + "order by s.createdAt, s.id", parameters, cursorPagination.probe(limit).getPageSize());
+        CursorPage<SprintDTO> page = cursorPagination.page(rows, limit,
+                sprint -> cursorPagination.encode(sprint.getCreatedAt(), sprint.getId()));
+        selection.strip(page.getItems());
+        return page;
+    }
+
     public SprintDTO getSprint(String id) {
-        Sprint sprint = sprintRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Sprint not found"));
+        Sprint sprint = sprintRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found"));
         return mapToDTO(sprint);
     }
 
     @Transactional
-    public SprintDTO updateSprint(String id, SprintDTO dto) {
-        Sprint sprint = sprintRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Sprint not found"));
+    public SprintDTO updateSprint(String id, SprintDTO dto, Long expectedVersion) {
+        Sprint sprint = sprintRepository.findLiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint not found"));
+        if (expectedVersion != null && !expectedVersion.equals(sprint.getVersion())) {
+            throw new PreconditionFailedException("Sprint " + id + " is at version " + sprint.getVersion());
+        }
 
         if (dto.getName() != null) sprint.setName(dto.getName());
         if (dto.getGoal() != null) sprint.setGoal(dto.getGoal());
@@ -53,13 +141,19 @@ public class SprintService {
         if (dto.getEndDate() != null) sprint.setEndDate(dto.getEndDate());
         if (dto.getStatus() != null) sprint.setStatus(Sprint.SprintStatus.valueOf(dto.getStatus()));
 
-        Sprint updated = sprintRepository.save(sprint);
-        return mapToDTO(updated);
+        Sprint updated = sprintRepository.saveAndFlush(sprint);
+        SprintDTO result = mapToDTO(updated);
+        eventPublisher.publishEvent(new BoardSprintsChangedEvent(result.getBoardId(), result.getId(), false));
+        return result;
     }
 
     @Transactional
     public void deleteSprint(String id) {
-        sprintRepository.deleteById(id);
+        sprintRepository.findLiveById(id).ifPresent(sprint -> {
+            String boardId = sprint.getBoard() != null ? sprint.getBoard().getId() : null;
+            sprintRepository.delete(sprint);
+            eventPublisher.publishEvent(new BoardSprintsChangedEvent(boardId, id, true));
+        });
     }
 
     private SprintDTO mapToDTO(Sprint sprint) {
@@ -73,6 +167,7 @@ public class SprintService {
                 .status(sprint.getStatus().toString())
                 .createdAt(sprint.getCreatedAt())
                 .updatedAt(sprint.getUpdatedAt())
+                .version(sprint.getVersion())
                 .build();
     }
 }
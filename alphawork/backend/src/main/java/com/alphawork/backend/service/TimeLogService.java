@@ -0,0 +1,203 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.dto.TimeLogDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import com.alphawork.backend.exception.BadRequestException;
+import com.alphawork.backend.repository.TimeLogRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Time logging. A submission of any size costs two statements: one UPDATE adds the
+ * summed hours of each issue to issues.time_spent_hours in the database, and one INSERT
+ * writes every entry from unnested arrays. Issues are never loaded, so concurrent
+ * submissions for the same issue serialize on its row lock for the length of a single
+ * statement instead of overwriting each other's totals.
+ */
+@Service
+@Timed("alphawork.service")
+public class TimeLogService {
+
+    private static final String ROLLUP_SQL = "WITH delta AS (" +
+            "  SELECT * FROM unnest(CAST(? AS uuid[]), CAST(? AS int[])) AS d(issue_id, hours)" +
+            "), target AS (" +
+            "  SELECT i.id, i.time_spent_hours, i.updated_at FROM issues i JOIN delta d ON d.issue_id = i.id " +
+            "  WHERE NOT EXISTS (SELECT 1 FROM boards b WHERE b.id = i.board_id AND b.deleted_at IS NOT NULL) " +
+            "  ORDER BY i.id FOR UPDATE OF i" +
+            "), changed AS (" +
+            "  UPDATE issues i SET time_spent_hours = COALESCE(i.time_spent_hours, 0) + d.hours, updated_at = now(), " +
+            "  version = i.version + 1 " +
+            "  FROM target t JOIN delta d ON d.issue_id = t.id WHERE i.id = t.id " +
+            "  RETURNING i.id, i.title, i.description, i.type, i.status, i.assignee_id, i.project_id, i.board_id, " +
+            "  i.sprint_id, i.estimate_hours, i.time_spent_hours, i.order_in_column, i.rank_key, i.created_at, " +
+            "  i.updated_at, i.version, COALESCE(t.time_spent_hours, 0) AS old_time_spent_hours, t.updated_at AS old_updated_at" +
+            ") " +
+            "SELECT c.*, concat(a.first_name, ' ', a.last_name) AS assignee_name " +
+            "FROM changed c LEFT JOIN users a ON a.id = c.assignee_id";
+
+    private static final String INSERT_SQL = "INSERT INTO time_logs " +
+            "(id, issue_id, user_id, hours_spent, notes, created_at, updated_at) " +
+            "SELECT e.id, e.issue_id, CAST(? AS uuid), e.hours, e.notes, ?, ? " +
+            "FROM unnest(CAST(? AS uuid[]), CAST(? AS uuid[]), CAST(? AS int[]), CAST(? AS text[])) " +
+            "AS e(id, issue_id, hours, notes)";
+
+    private static final int MAX_NOTES_LENGTH = 1000;
+
+    @Autowired
+    private TimeLogRepository timeLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${alphawork.time-logs.max-batch:1000}")
+    private int maxBatch;
+
+    @Transactional
+    public TimeLogDTO logTime(String userId, TimeLogDTO entry) {
+        return logTime(userId, List.of(entry)).get(0);
+    }
+
+    /**
+     * Records all entries for the given user, all or nothing. Entries for the same issue
+     * are summed into a single increment of its time spent.
+     */
+    @Transactional
+    public List<TimeLogDTO> logTime(String userId, List<TimeLogDTO> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new BadRequestException("No time log entries");
+        }
+        if (entries.size() > maxBatch) {
+            throw new BadRequestException("At most " + maxBatch + " time log entries per request");
+        }
+
+        // Sorted so concurrent submissions lock shared issues in the same order
+        Map<String, Integer> hoursByIssue = new TreeMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            TimeLogDTO entry = entries.get(i);
+            String issueId = validate(i, entry);
+            hoursByIssue.merge(issueId, entry.getHoursSpent(), Integer::sum);
+        }
+
+        List<IssueChange> changes = jdbcTemplate.query(ROLLUP_SQL, (rs, rowNum) -> {
+            IssueDTO after = IssueBulkService.mapIssueRow(rs);
+            IssueDTO before = after.toBuilder()
+                    .timeSpentHours(rs.getInt("old_time_spent_hours"))
+                    .updatedAt(rs.getTimestamp("old_updated_at").toLocalDateTime())
+                    .version(after.getVersion() - 1)
+                    .build();
+            return IssueChange.updated(before, after);
+        }, hoursByIssue.keySet().toArray(String[]::new), hoursByIssue.values().toArray(Integer[]::new));
+
+        if (changes.size() < hoursByIssue.size()) {
+            changes.forEach(change -> hoursByIssue.remove(change.issueId()));
+            // Rolls the increments back
+            throw new BadRequestException("Issue not found: " + hoursByIssue.keySet().iterator().next());
+        }
+
+        // Postgres keeps microseconds; returning the stored value keeps cursors consistent
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<TimeLogDTO> logged = new ArrayList<>(entries.size());
+        for (TimeLogDTO entry : entries) {
+            logged.add(TimeLogDTO.builder()
+                    .id(UUID.randomUUID().toString())
+                    .issueId(UUID.fromString(entry.getIssueId()).toString())
+                    .userId(userId)
+                    .hoursSpent(entry.getHoursSpent())
+                    .notes(entry.getNotes())
+                    .createdAt(now)
+                    .build());
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_SQL, userId, timestamp, timestamp,
+                logged.stream().map(TimeLogDTO::getId).toArray(String[]::new),
+                logged.stream().map(TimeLogDTO::getIssueId).toArray(String[]::new),
+                logged.stream().map(TimeLogDTO::getHoursSpent).toArray(Integer[]::new),
+                logged.stream().map(TimeLogDTO::getNotes).toArray(String[]::new));
+
+        Map<String, List<IssueChange>> changesByBoard = new LinkedHashMap<>();
+        for (IssueChange change : changes) {
+            changesByBoard.computeIfAbsent(change.after().getBoardId(), boardId -> new ArrayList<>()).add(change);
+        }
+        changesByBoard.forEach((boardId, boardChanges) ->
+                eventPublisher.publishEvent(new BoardIssuesChangedEvent(boardId, boardChanges)));
+        return logged;
+    }
+
+    public CursorPage<TimeLogDTO> getTimeLogsByIssue(String issueId, String cursor, Integer limit) {
+        String issue = uuid(issueId, "issueId").toString();
+        List<TimeLogDTO> rows;
+        if (cursor == null) {
+            rows = timeLogRepository.findIssueRows(issue, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = timeLogRepository.findIssueRowsBefore(issue, key.timestampValue(), key.uuidId(),
+                    cursorPagination.probe(limit));
+        }
+        return cursorPagination.page(rows, limit, this::createdAtCursor);
+    }
+
+    public CursorPage<TimeLogDTO> getTimeLogsByUser(String userId, String cursor, Integer limit) {
+        UUID user = uuid(userId, "userId");
+        List<TimeLogDTO> rows;
+        if (cursor == null) {
+            rows = timeLogRepository.findUserRows(user, cursorPagination.probe(limit));
+        } else {
+            CursorPagination.Key key = cursorPagination.decode(cursor);
+            rows = timeLogRepository.findUserRowsBefore(user, key.timestampValue(), key.uuidId(),
+                    cursorPagination.probe(limit));
+        }
+        return cursorPagination.page(rows, limit, this::createdAtCursor);
+    }
+
+    private String createdAtCursor(TimeLogDTO log) {
+        return cursorPagination.encode(log.getCreatedAt(), log.getId());
+    }
+
+    private static String validate(int index, TimeLogDTO entry) {
+        if (entry == null) {
+            throw new BadRequestException("Entry " + index + ": time log is empty");
+        }
+        if (entry.getIssueId() == null) {
+            throw new BadRequestException("Entry " + index + ": issueId is required");
+        }
+        if (entry.getHoursSpent() == null || entry.getHoursSpent() <= 0) {
+            throw new BadRequestException("Entry " + index + ": hoursSpent must be positive");
+        }
+        if (entry.getNotes() != null && entry.getNotes().length() > MAX_NOTES_LENGTH) {
+            throw new BadRequestException("Entry " + index + ": notes must be at most " + MAX_NOTES_LENGTH + " characters");
+        }
+        return uuid(entry.getIssueId(), "issueId").toString();
+    }
+
+    private static UUID uuid(String value, String field) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + " " + value);
+        }
+    }
+}
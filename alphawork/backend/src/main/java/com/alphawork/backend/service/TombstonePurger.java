@@ -0,0 +1,187 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.domain.entity.Board;
+import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.domain.entity.Sprint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes what soft-deleted boards and projects leave behind. Each tombstoned board is
+ * emptied bottom-up, time logs, notes, issues and sprints, with set-based DELETEs of at
+ * most {@code chunk-size} rows, each in its own short transaction, before the board row
+ * itself goes. Projects are removed once none of their boards are left.
+ *
+ * <p>Chunks pick their rows with SKIP LOCKED, so several instances can purge side by
+ * side and no chunk waits on rows a user transaction holds. Progress is exported as
+ * rows deleted per table and the number of tombstones still waiting.
+ */
+@Component
+public class TombstonePurger implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstonePurger.class);
+
+    private static final String TOMBSTONED_BOARDS_SQL = "SELECT CAST(id AS varchar) FROM boards " +
+            "WHERE deleted_at IS NOT NULL ORDER BY deleted_at";
+
+    private static final String TOMBSTONED_PROJECTS_SQL = "SELECT CAST(id AS varchar) FROM projects " +
+            "WHERE deleted_at IS NOT NULL ORDER BY deleted_at";
+
+    private static final String REMAINING_BOARDS_SQL = "SELECT count(*) FROM boards WHERE project_id = CAST(? AS uuid)";
+
+    // Children first, so no chunk cascades into more rows than it names
+    private static final List<Step> BOARD_STEPS = List.of(
+            new Step("time_logs", null, "DELETE FROM time_logs WHERE id IN (" +
+                    "SELECT t.id FROM time_logs t JOIN issues i ON i.id = t.issue_id " +
+                    "WHERE i.board_id = CAST(?1 AS uuid) LIMIT ?2 FOR UPDATE OF t SKIP LOCKED)"),
+            new Step("notes", null, "DELETE FROM notes WHERE id IN (" +
+                    "SELECT n.id FROM notes n JOIN issues i ON i.id = n.issue_id " +
+                    "WHERE i.board_id = CAST(?1 AS uuid) LIMIT ?2 FOR UPDATE OF n SKIP LOCKED)"),
+            new Step("issues", null, "DELETE FROM issues WHERE id IN (" +
+                    "SELECT id FROM issues WHERE board_id = CAST(?1 AS uuid) LIMIT ?2 FOR UPDATE SKIP LOCKED)"),
+            new Step("sprints", Sprint.class, "DELETE FROM sprints WHERE id IN (" +
+                    "SELECT id FROM sprints WHERE board_id = CAST(?1 AS uuid) LIMIT ?2 FOR UPDATE SKIP LOCKED)"));
+
+    private static final Step BOARD_ROW = new Step("boards", Board.class,
+            "DELETE FROM boards WHERE id = CAST(?1 AS uuid) AND deleted_at IS NOT NULL");
+
+    private static final Step PROJECT_ROW = new Step("projects", Project.class,
+            "DELETE FROM projects WHERE id = CAST(?1 AS uuid) AND deleted_at IS NOT NULL");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${alphawork.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    private final AtomicInteger pendingBoards = new AtomicInteger();
+
+    private final AtomicInteger pendingProjects = new AtomicInteger();
+
+    private final Map<String, AtomicLong> deletedRows = new LinkedHashMap<>();
+
+    public TombstonePurger() {
+        for (Step step : BOARD_STEPS) {
+            deletedRows.put(step.table(), new AtomicLong());
+        }
+        deletedRows.put(BOARD_ROW.table(), new AtomicLong());
+        deletedRows.put(PROJECT_ROW.table(), new AtomicLong());
+    }
+
+    @Scheduled(fixedDelayString = "${alphawork.purge.interval-ms:10000}")
+    public void purgeTombstones() {
+        try {
+            List<String> boards = jdbcTemplate.queryForList(TOMBSTONED_BOARDS_SQL, String.class);
+            pendingBoards.set(boards.size());
+            for (String boardId : boards) {
+                purgeBoard(boardId);
+                pendingBoards.decrementAndGet();
+            }
+
+            List<String> projects = jdbcTemplate.queryForList(TOMBSTONED_PROJECTS_SQL, String.class);
+            pendingProjects.set(projects.size());
+            for (String projectId : projects) {
+                if (purgeProject(projectId)) {
+                    pendingProjects.decrementAndGet();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not purge deleted boards and projects", e);
+        }
+    }
+
+    public long purgeBoard(String boardId) {
+        long started = System.nanoTime();
+        long rows = 0;
+        for (Step step : BOARD_STEPS) {
+            int deleted;
+            do {
+                deleted = execute(step, boardId, chunkSize);
+                rows += deleted;
+            } while (deleted > 0);
+        }
+        rows += execute(BOARD_ROW, boardId);
+        log.info("Purged board {}: {} rows in {} ms", boardId, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Removes a tombstoned project once its boards are gone; its team links go with it
+     * by cascade. Returns false while boards are left, e.g. ones tombstoned after this
+     * run listed them.
+     */
+    public boolean purgeProject(String projectId) {
+        Long remaining = jdbcTemplate.queryForObject(REMAINING_BOARDS_SQL, Long.class, projectId);
+        if (remaining != null && remaining > 0) {
+            return false;
+        }
+        execute(PROJECT_ROW, projectId);
+        log.info("Purged project {}", projectId);
+        return true;
+    }
+
+    private int execute(Step step, Object... parameters) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            NativeQuery<?> query = entityManager.createNativeQuery(step.sql()).unwrap(NativeQuery.class);
+            for (int i = 0; i < parameters.length; i++) {
+                query.setParameter(i + 1, parameters[i]);
+            }
+            if (step.entity() != null) {
+                // Evicts only the region of the purged rows
+                query.addSynchronizedEntityClass(step.entity());
+            } else {
+                // Uncached table, nothing to evict
+                query.addSynchronizedQuerySpace(step.table());
+            }
+            return query.executeUpdate();
+        });
+        int count = deleted != null ? deleted : 0;
+        deletedRows.get(step.table()).addAndGet(count);
+        return count;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("alphawork.purge.pending", pendingBoards, AtomicInteger::get)
+                .description("Deleted boards whose rows are not purged yet")
+                .tag("kind", "board")
+                .register(registry);
+        Gauge.builder("alphawork.purge.pending", pendingProjects, AtomicInteger::get)
+                .description("Deleted projects whose rows are not purged yet")
+                .tag("kind", "project")
+                .register(registry);
+        deletedRows.forEach((table, count) ->
+                FunctionCounter.builder("alphawork.purge.rows.deleted", count, AtomicLong::doubleValue)
+                        .description("Rows removed by the tombstone purger")
+                        .tag("table", table)
+                        .register(registry));
+    }
+
+    private record Step(String table, Class<?> entity, String sql) {
+    }
+}
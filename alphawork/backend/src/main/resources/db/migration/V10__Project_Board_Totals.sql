@@ -0,0 +1,20 @@
+-- Running issue totals per board, status and type for the project dashboard. Issue
+-- writes add their deltas in the same transaction (ProjectSummaryService), so a
+-- summary reads a few rows per board however many issues the project holds.
+CREATE TABLE project_board_totals (
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    board_id UUID NOT NULL REFERENCES boards(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    issue_count INT NOT NULL DEFAULT 0,
+    estimate_hours INT NOT NULL DEFAULT 0,
+    time_spent_hours INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, board_id, status, type)
+);
+
+INSERT INTO project_board_totals (project_id, board_id, status, type, issue_count, estimate_hours, time_spent_hours)
+SELECT project_id, board_id, status, type, COUNT(*), COALESCE(SUM(estimate_hours), 0), COALESCE(SUM(time_spent_hours), 0)
+FROM issues
+GROUP BY project_id, board_id, status, type;
+
+CREATE INDEX idx_project_board_totals_board ON project_board_totals(board_id);
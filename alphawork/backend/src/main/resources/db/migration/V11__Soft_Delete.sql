@@ -0,0 +1,8 @@
+-- Tombstones for projects and boards. Deleting one only sets deleted_at, which hides it
+-- from reads at once; TombstonePurger removes the rows below it later in small chunks.
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE boards ADD COLUMN deleted_at TIMESTAMP;
+
+-- The purger only ever looks for tombstones, which are few
+CREATE INDEX idx_projects_deleted_at ON projects(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_boards_deleted_at ON boards(deleted_at) WHERE deleted_at IS NOT NULL;
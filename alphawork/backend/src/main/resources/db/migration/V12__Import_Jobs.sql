@@ -0,0 +1,28 @@
+-- Resumable project imports. records_committed is advanced in the same transaction as
+-- each chunk's inserts, so an interrupted upload can be sent again and resumes right
+-- after the last chunk that made it (see ProjectImportService).
+CREATE TABLE import_jobs (
+    id UUID PRIMARY KEY,
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    created_by UUID REFERENCES users(id) ON DELETE SET NULL,
+    status VARCHAR(20) NOT NULL,
+    records_committed BIGINT NOT NULL DEFAULT 0,
+    records_failed BIGINT NOT NULL DEFAULT 0,
+    issues_imported BIGINT NOT NULL DEFAULT 0,
+    notes_imported BIGINT NOT NULL DEFAULT 0,
+    time_logs_imported BIGINT NOT NULL DEFAULT 0,
+    message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_import_jobs_project_id ON import_jobs(project_id);
+
+-- Rejected records, capped per job; records_failed keeps counting past the cap
+CREATE TABLE import_job_errors (
+    job_id UUID NOT NULL REFERENCES import_jobs(id) ON DELETE CASCADE,
+    record_index BIGINT NOT NULL,
+    message TEXT NOT NULL,
+    PRIMARY KEY (job_id, record_index)
+);
@@ -0,0 +1,27 @@
+-- Concurrent appends could give two issues of a board the same rank key, after which no
+-- card fits between them. Respace the affected boards in their current order, then make
+-- keys unique per board. Deferrable so IssueRankRebalancer can rewrite a board row by row.
+WITH duplicated AS (
+    SELECT DISTINCT board_id
+    FROM issues
+    GROUP BY board_id, rank_key
+    HAVING count(*) > 1
+), ordered AS (
+    SELECT id,
+           row_number() OVER w AS position,
+           count(*) OVER (PARTITION BY board_id) AS total
+    FROM issues
+    WHERE board_id IN (SELECT board_id FROM duplicated)
+    WINDOW w AS (PARTITION BY board_id ORDER BY rank_key, id)
+)
+UPDATE issues i
+SET rank_key = (
+    SELECT rtrim(string_agg(substr('0123456789abcdefghijklmnopqrstuvwxyz',
+                                   ((o.position * (2176782336 / (o.total + 1)) / power(36, 5 - p)::bigint) % 36)::int + 1, 1),
+                            '' ORDER BY p), '0')
+    FROM generate_series(0, 5) p
+)
+FROM ordered o
+WHERE o.id = i.id;
+
+ALTER TABLE issues ADD CONSTRAINT uq_issues_board_rank UNIQUE (board_id, rank_key) DEFERRABLE INITIALLY IMMEDIATE;
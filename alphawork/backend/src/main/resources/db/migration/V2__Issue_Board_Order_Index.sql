@@ -0,0 +1,2 @@
+-- Board read model orders issues by column position; serve it straight from the index
+CREATE INDEX idx_issues_board_order ON issues(board_id, order_in_column, id);
@@ -0,0 +1,4 @@
+-- Keyset pagination: each listing seeks on (parent, sort key, id)
+CREATE INDEX idx_issues_sprint_order ON issues(sprint_id, order_in_column, id);
+CREATE INDEX idx_sprints_board_created ON sprints(board_id, created_at, id);
+CREATE INDEX idx_projects_organization_created ON projects(organization_id, created_at, id);
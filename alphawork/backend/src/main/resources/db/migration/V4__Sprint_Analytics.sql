@@ -0,0 +1,21 @@
+-- Per-sprint daily deltas of issue count, estimate and time spent by status.
+-- Writes only ever add to one row per (sprint, day, status); a burndown is the
+-- running sum over days, so reads scale with sprint length, not issue count.
+CREATE TABLE sprint_daily_deltas (
+    sprint_id UUID NOT NULL REFERENCES sprints(id) ON DELETE CASCADE,
+    stat_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    issue_count INT NOT NULL DEFAULT 0,
+    estimate_hours INT NOT NULL DEFAULT 0,
+    time_spent_hours INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (sprint_id, stat_date, status)
+);
+
+-- Seed with the current state of existing sprints, dated at sprint start
+INSERT INTO sprint_daily_deltas (sprint_id, stat_date, status, issue_count, estimate_hours, time_spent_hours)
+SELECT i.sprint_id, s.start_date, i.status, COUNT(*), COALESCE(SUM(i.estimate_hours), 0), COALESCE(SUM(i.time_spent_hours), 0)
+FROM issues i
+JOIN sprints s ON s.id = i.sprint_id
+GROUP BY i.sprint_id, s.start_date, i.status;
+
+CREATE INDEX idx_sprints_board_status_end ON sprints(board_id, status, end_date);
@@ -0,0 +1,14 @@
+-- Full-text search: stored generated tsvector columns are maintained by Postgres on every
+-- insert/update, and GIN indexes make @@ matches an index lookup instead of a table scan.
+-- Titles outrank descriptions; both use the 'english' configuration.
+ALTER TABLE issues ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+ALTER TABLE notes ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    to_tsvector('english', coalesce(content, ''))
+) STORED;
+
+CREATE INDEX idx_issues_search ON issues USING GIN (search_vector);
+CREATE INDEX idx_notes_search ON notes USING GIN (search_vector);
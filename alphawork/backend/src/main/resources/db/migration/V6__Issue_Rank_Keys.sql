@@ -0,0 +1,30 @@
+-- Fractional rank keys for board ordering (see RankKeys). Byte-wise "C" collation makes
+-- the database order keys exactly like Java's String.compareTo.
+ALTER TABLE issues ADD COLUMN rank_key VARCHAR(255) COLLATE "C";
+
+-- Backfill: spread each board's current order evenly over six base-36 digits
+-- (36^6 = 2176782336), dropping trailing zeros like RankKeys.spaced does
+WITH ordered AS (
+    SELECT id,
+           row_number() OVER w AS position,
+           count(*) OVER (PARTITION BY board_id) AS total
+    FROM issues
+    WINDOW w AS (PARTITION BY board_id ORDER BY order_in_column, created_at, id)
+)
+UPDATE issues i
+SET rank_key = (
+    SELECT rtrim(string_agg(substr('0123456789abcdefghijklmnopqrstuvwxyz',
+                                   ((o.position * (2176782336 / (o.total + 1)) / power(36, 5 - p)::bigint) % 36)::int + 1, 1),
+                            '' ORDER BY p), '0')
+    FROM generate_series(0, 5) p
+)
+FROM ordered o
+WHERE o.id = i.id;
+
+ALTER TABLE issues ALTER COLUMN rank_key SET NOT NULL;
+
+-- Board and sprint listings now seek on the rank instead of order_in_column
+DROP INDEX IF EXISTS idx_issues_board_order;
+DROP INDEX IF EXISTS idx_issues_sprint_order;
+CREATE INDEX idx_issues_board_rank ON issues(board_id, rank_key, id);
+CREATE INDEX idx_issues_sprint_rank ON issues(sprint_id, rank_key, id);
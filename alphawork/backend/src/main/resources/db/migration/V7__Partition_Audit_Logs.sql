@@ -0,0 +1,51 @@
+-- Partition audit_logs by month on its timestamp. Time-bounded reads only touch the
+-- matching partitions, and retention drops whole partitions instead of DELETEing rows
+-- (see AuditLogPartitionMaintainer, which also keeps future partitions created).
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_unpartitioned_pkey;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id VARCHAR(255) NOT NULL,
+    before_state TEXT,
+    after_state TEXT,
+    description TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+-- Catches rows outside every monthly partition so audit writes never fail; it stays
+-- empty as long as partitions are created ahead of time
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- One partition per month from the oldest existing entry through three months ahead
+DO $$
+DECLARE
+    month DATE;
+    last_month DATE := date_trunc('month', now()) + INTERVAL '3 months';
+BEGIN
+    SELECT coalesce(date_trunc('month', min(timestamp)), date_trunc('month', now()))
+    INTO month
+    FROM audit_logs_unpartitioned;
+
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_p' || to_char(month, 'YYYYMM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id, before_state, after_state, description, timestamp)
+SELECT id, user_id, action, entity_type, entity_id, before_state, after_state, description, timestamp
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+-- Newest-first keyset reads by entity, by user and by time alone. These replace the
+-- single-column entity indexes; entity_type on its own is far too unselective.
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_user ON audit_logs(user_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs(timestamp DESC, id DESC);
@@ -0,0 +1,4 @@
+-- Per-issue and per-user time log pages seek on (created_at desc, id desc)
+DROP INDEX IF EXISTS idx_time_logs_issue_id;
+CREATE INDEX idx_time_logs_issue_created ON time_logs(issue_id, created_at DESC, id DESC);
+CREATE INDEX idx_time_logs_user_created ON time_logs(user_id, created_at DESC, id DESC);
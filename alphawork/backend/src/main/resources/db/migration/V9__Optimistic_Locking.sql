@@ -0,0 +1,4 @@
+-- Row versions for optimistic locking; every update of these rows increments them
+ALTER TABLE issues ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE sprints ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,57 @@
+package com.alphawork.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(pool, 1, 10);
+    }
+
+    @Test
+    public void testPermitIsHeldUntilConnectionIsClosed() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        assertNotNull(second);
+        verify(connection, times(1)).close();
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    public void testPermitIsReleasedWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted")).thenReturn(connection);
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertNotNull(dataSource.getConnection());
+    }
+}
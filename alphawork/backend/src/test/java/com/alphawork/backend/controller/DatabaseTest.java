@@ -0,0 +1,33 @@
+package com.alphawork.backend.controller;
+
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base of the tests that run the application against a migrated Postgres database, set
+ * by ALPHAWORK_TEST_DATABASE_URL (and optionally ALPHAWORK_TEST_DATABASE_USERNAME /
+ * _PASSWORD). Declaring the configuration once lets the subclasses share one
+ * application context, and with it the process-wide second-level cache manager.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "ALPHAWORK_TEST_DATABASE_URL", matches = ".+")
+abstract class DatabaseTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("ALPHAWORK_TEST_DATABASE_URL"));
+        registry.add("spring.datasource.username", () -> env("ALPHAWORK_TEST_DATABASE_USERNAME", "alphawork"));
+        registry.add("spring.datasource.password", () -> env("ALPHAWORK_TEST_DATABASE_PASSWORD", "alphawork"));
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
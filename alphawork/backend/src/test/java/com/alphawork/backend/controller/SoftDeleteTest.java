@@ -0,0 +1,82 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Deleting a board tombstones it; its sprints and issues must disappear from reads and
+ * writes at once, not only once TombstonePurger has removed them.
+ *
+ * <p>Needs a migrated Postgres database: set ALPHAWORK_TEST_DATABASE_URL (and
+ * optionally ALPHAWORK_TEST_DATABASE_USERNAME / _PASSWORD) to run it.
+ */
+class SoftDeleteTest extends DatabaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private final String userId = UUID.randomUUID().toString();
+    private final String organizationId = UUID.randomUUID().toString();
+    private final String projectId = UUID.randomUUID().toString();
+    private final String boardId = UUID.randomUUID().toString();
+    private final String sprintId = UUID.randomUUID().toString();
+    private final String issueId = UUID.randomUUID().toString();
+    private String token;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, first_name, last_name, role) " +
+                "VALUES (CAST(? AS uuid), ?, 'x', 'Soft', 'Delete', 'ORG_HEAD')", userId, userId + "@softdelete.test");
+        token = tokenProvider.generateToken(userId, userId + "@softdelete.test", "ORG_HEAD");
+
+        jdbcTemplate.update("INSERT INTO organizations (id, name) VALUES (CAST(? AS uuid), 'Soft Delete Org')", organizationId);
+        jdbcTemplate.update("INSERT INTO projects (id, name, organization_id, start_date, end_date) " +
+                        "VALUES (CAST(? AS uuid), 'Soft Delete', CAST(? AS uuid), ?, ?)",
+                projectId, organizationId, LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(1));
+        jdbcTemplate.update("INSERT INTO boards (id, name, project_id, type) VALUES (CAST(? AS uuid), 'Board', CAST(? AS uuid), 'SCRUM')",
+                boardId, projectId);
+        jdbcTemplate.update("INSERT INTO sprints (id, name, board_id, start_date, end_date, status) " +
+                        "VALUES (CAST(? AS uuid), 'Sprint', CAST(? AS uuid), ?, ?, 'ACTIVE')",
+                sprintId, boardId, LocalDate.now().minusDays(7), LocalDate.now().plusDays(7));
+        jdbcTemplate.update("INSERT INTO issues (id, title, type, status, project_id, board_id, sprint_id, rank_key) " +
+                        "VALUES (CAST(? AS uuid), 'Doomed', 'TASK', 'TODO', CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), 'i')",
+                issueId, projectId, boardId, sprintId);
+    }
+
+    @Test
+    void issuesAndSprintsOfADeletedBoardAreGone() throws Exception {
+        mockMvc.perform(authorized(get("/api/issues/" + issueId))).andExpect(status().isOk());
+        mockMvc.perform(authorized(get("/api/sprints/" + sprintId + "/burndown"))).andExpect(status().isOk());
+
+        mockMvc.perform(authorized(delete("/api/boards/" + boardId))).andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(authorized(get("/api/issues/" + issueId))).andExpect(status().isNotFound());
+        mockMvc.perform(authorized(patch("/api/issues/" + issueId + "/status").param("status", "DONE")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/sprints/" + sprintId))).andExpect(status().isNotFound());
+        mockMvc.perform(authorized(get("/api/sprints/" + sprintId + "/burndown"))).andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token).header("organizationId", organizationId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.alphawork.backend.controller;
+
+import com.alphawork.backend.config.RequestStatementMetricsFilter;
+import com.alphawork.backend.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Calls every GET endpoint against a seeded dataset and asserts that none executes more
+ * SQL statements than its {@code @StatementBudget}. The dataset spreads issues over many
+ * assignees, statuses and sprints, so a per-row lazy load shows up as a blown budget.
+ * The second-level cache is cleared before each call to measure the cold path.
+ *
+ * <p>Needs a migrated Postgres database: set ALPHAWORK_TEST_DATABASE_URL (and
+ * optionally ALPHAWORK_TEST_DATABASE_USERNAME / _PASSWORD) to run it.
+ */
+class StatementBudgetTest extends DatabaseTest {
+
+    private static final int ISSUES = 40;
+    private static final int ASSIGNEES = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private RequestStatementMetricsFilter statementFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private final String organizationId = UUID.randomUUID().toString();
+    private final String projectId = UUID.randomUUID().toString();
+    private final String boardId = UUID.randomUUID().toString();
+    private final String sprintId = UUID.randomUUID().toString();
+    private final String importJobId = UUID.randomUUID().toString();
+    private final List<String> userIds = new ArrayList<>();
+    private final List<String> issueIds = new ArrayList<>();
+    private String token;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i <= ASSIGNEES; i++) {
+            String userId = UUID.randomUUID().toString();
+            jdbcTemplate.update("INSERT INTO users (id, email, password, first_name, last_name, role) " +
+                            "VALUES (CAST(? AS uuid), ?, 'x', 'Budget', ?, ?)",
+                    userId, userId + "@budget.test", "User" + i, i == 0 ? "ORG_HEAD" : "USER");
+            userIds.add(userId);
+        }
+        token = tokenProvider.generateToken(userIds.get(0), userIds.get(0) + "@budget.test", "ORG_HEAD");
+
+        jdbcTemplate.update("INSERT INTO organizations (id, name) VALUES (CAST(? AS uuid), 'Budget Org')", organizationId);
+        jdbcTemplate.update("INSERT INTO projects (id, name, organization_id, start_date, end_date) " +
+                "VALUES (CAST(? AS uuid), 'Budget', CAST(? AS uuid), ?, ?)",
+                projectId, organizationId, LocalDate.now().minusMonths(1), LocalDate.now().plusMonths(1));
+        jdbcTemplate.update("INSERT INTO boards (id, name, project_id, type) VALUES (CAST(? AS uuid), 'Board', CAST(? AS uuid), 'SCRUM')",
+                boardId, projectId);
+        jdbcTemplate.update("INSERT INTO sprints (id, name, board_id, start_date, end_date, status) " +
+                "VALUES (CAST(? AS uuid), 'Sprint', CAST(? AS uuid), ?, ?, 'ACTIVE')",
+                sprintId, boardId, LocalDate.now().minusDays(7), LocalDate.now().plusDays(7));
+
+        String[] statuses = {"TODO", "DOING", "REVIEW", "DONE"};
+        for (int i = 0; i < ISSUES; i++) {
+            String issueId = UUID.randomUUID().toString();
+            jdbcTemplate.update("INSERT INTO issues (id, title, description, type, status, assignee_id, project_id, board_id, " +
+                            "sprint_id, estimate_hours, rank_key) VALUES (CAST(? AS uuid), ?, 'budget harness issue', 'TASK', ?, " +
+                            "CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), 3, ?)",
+                    issueId, "Budget issue " + i, statuses[i % statuses.length], userIds.get(1 + i % ASSIGNEES),
+                    projectId, boardId, i % 2 == 0 ? sprintId : null, String.format("%06d", i));
+            jdbcTemplate.update("INSERT INTO notes (id, issue_id, author_id, content) VALUES (gen_random_uuid(), CAST(? AS uuid), " +
+                    "CAST(? AS uuid), 'budget harness note')", issueId, userIds.get(1 + i % ASSIGNEES));
+            jdbcTemplate.update("INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id) " +
+                    "VALUES (gen_random_uuid(), CAST(? AS uuid), 'UPDATE', 'ISSUE', ?)", userIds.get(0), issueId);
+            jdbcTemplate.update("INSERT INTO time_logs (id, issue_id, user_id, hours_spent) VALUES (gen_random_uuid(), " +
+                    "CAST(? AS uuid), CAST(? AS uuid), 1)", issueId, userIds.get(1 + i % ASSIGNEES));
+            issueIds.add(issueId);
+        }
+
+        jdbcTemplate.update("INSERT INTO import_jobs (id, project_id, created_by, status) " +
+                "VALUES (CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), 'COMPLETED')", importJobId, projectId, userIds.get(0));
+        for (int i = 0; i < ISSUES; i++) {
+            jdbcTemplate.update("INSERT INTO import_job_errors (job_id, record_index, message) VALUES (CAST(? AS uuid), ?, ?)",
+                    importJobId, i, "title is required");
+        }
+    }
+
+    @Test
+    void readEndpointsStayWithinTheirStatementBudget() throws Exception {
+        Map<String, String> requests = new LinkedHashMap<>();
+        requests.put("/api/health", null);
+        requests.put("/api/auth/health", null);
+        requests.put("/api/projects", null);
+        requests.put("/api/projects/" + projectId, null);
+        requests.put("/api/projects/" + projectId + "/summary", null);
+        requests.put("/api/projects/" + projectId + "/export", null);
+        requests.put("/api/boards/project/" + projectId, null);
+        requests.put("/api/boards/" + boardId, null);
+        requests.put("/api/boards/" + boardId + "/velocity", null);
+        requests.put("/api/sprints/board/" + boardId, null);
+        requests.put("/api/sprints/" + sprintId, null);
+        requests.put("/api/sprints/" + sprintId + "/burndown", null);
+        requests.put("/api/issues/board/" + boardId, null);
+        requests.put("/api/issues/sprint/" + sprintId, null);
+        requests.put("/api/issues/board/" + boardId + "?fields=card", null);
+        requests.put("/api/issues/sprint/" + sprintId + "?fields=id,title,sprintId", null);
+        requests.put("/api/sprints/board/" + boardId + "?fields=card", null);
+        requests.put("/api/boards/project/" + projectId + "?fields=card", null);
+        requests.put("/api/projects?fields=card", null);
+        requests.put("/api/issues/" + issueIds.get(0), null);
+        requests.put("/api/imports/" + importJobId, null);
+        requests.put("/api/search?q=budget&projectId=" + projectId, null);
+        requests.put("/api/audit-logs?entityId=" + issueIds.get(0), null);
+        requests.put("/api/audit-logs?userId=" + userIds.get(0), null);
+        requests.put("/api/time-logs/issue/" + issueIds.get(0), null);
+        requests.put("/api/time-logs/user/" + userIds.get(1), null);
+
+        List<String> overBudget = new ArrayList<>();
+        Set<String> covered = new TreeSet<>();
+        for (String uri : requests.keySet()) {
+            entityManagerFactory.getCache().evictAll();
+            MvcResult result = mockMvc.perform(get(uri)
+                            .header("Authorization", "Bearer " + token)
+                            .header("organizationId", organizationId))
+                    .andReturn();
+            assertEquals(200, result.getResponse().getStatus(), uri + ": " + result.getResponse().getContentAsString());
+
+            int statements = (int) result.getRequest().getAttribute(RequestStatementMetricsFilter.STATEMENT_COUNT_ATTRIBUTE);
+            int budget = statementFilter.budgetOf(result.getHandler());
+            if (statements > budget) {
+                overBudget.add(uri + " executed " + statements + " statements, budget " + budget);
+            }
+            covered.add((String) result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        }
+
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+        Set<String> uncovered = new TreeSet<>(getEndpointPatterns());
+        uncovered.removeAll(covered);
+        assertTrue(uncovered.isEmpty(), "GET endpoints without a budget check: " + uncovered);
+    }
+
+    private Set<String> getEndpointPatterns() {
+        Set<String> patterns = new TreeSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, method) -> {
+            if (method.getBeanType().getPackageName().equals(StatementBudgetTest.class.getPackageName())
+                    && info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                patterns.addAll(info.getPatternValues());
+            }
+        });
+        return patterns;
+    }
+}
@@ -0,0 +1,56 @@
+package com.alphawork.backend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenProviderTest {
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "alphawork-secret-key-for-jwt-token-generation-must-be-long-enough-for-hs256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxEntries", 10);
+        tokenProvider.init();
+    }
+
+    @Test
+    public void testVerifyExtractsAllClaims() {
+        String token = tokenProvider.generateToken("user-1", "test@example.com", "USER");
+
+        Optional<JwtPrincipal> principal = tokenProvider.verify(token);
+
+        assertTrue(principal.isPresent());
+        assertEquals("user-1", principal.get().userId());
+        assertEquals("test@example.com", principal.get().email());
+        assertEquals("USER", principal.get().role());
+    }
+
+    @Test
+    public void testRepeatedTokenIsServedFromCache() {
+        String token = tokenProvider.generateToken("user-1", "test@example.com", "USER");
+
+        tokenProvider.verify(token);
+        tokenProvider.verify(token);
+
+        assertEquals(1, tokenProvider.getCacheMisses());
+        assertEquals(1, tokenProvider.getCacheHits());
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        String token = tokenProvider.generateToken("user-1", "test@example.com", "USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertTrue(tokenProvider.verify(tampered).isEmpty());
+        assertFalse(tokenProvider.validateToken("not-a-token"));
+    }
+}
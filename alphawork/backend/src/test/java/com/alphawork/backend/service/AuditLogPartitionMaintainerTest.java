@@ -0,0 +1,27 @@
+package com.alphawork.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AuditLogPartitionMaintainerTest {
+
+    @Test
+    void partitionNamesRoundTrip() {
+        YearMonth month = YearMonth.of(2026, 3);
+        String name = AuditLogPartitionMaintainer.partitionName(month);
+
+        assertEquals("audit_logs_p202603", name);
+        assertEquals(month, AuditLogPartitionMaintainer.partitionMonth(name));
+    }
+
+    @Test
+    void ignoresPartitionsItDidNotName() {
+        assertNull(AuditLogPartitionMaintainer.partitionMonth("audit_logs_default"));
+        assertNull(AuditLogPartitionMaintainer.partitionMonth("audit_logs_p2026"));
+        assertNull(AuditLogPartitionMaintainer.partitionMonth("audit_logs_p2026ab"));
+    }
+}
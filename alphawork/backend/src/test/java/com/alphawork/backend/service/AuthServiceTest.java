@@ -10,10 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,7 +28,7 @@ public class AuthServiceTest {
     private JwtTokenProvider tokenProvider;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHasher;
 
     @InjectMocks
     private AuthService authService;
@@ -56,8 +56,8 @@ public class AuthServiceTest {
     @Test
     public void testLoginSuccess() {
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches("password123", "hashedPassword")).thenReturn(true);
-        when(tokenProvider.generateToken("test-id", "test@example.com", "USER")).thenReturn("jwt-token");
+        when(passwordHasher.matches("password123", "hashedPassword")).thenReturn(true);
+        when(tokenProvider.generateToken(testUser.getId().toString(), "test@example.com", "USER")).thenReturn("jwt-token");
 
         var response = authService.login(loginRequest);
 
@@ -66,6 +66,21 @@ public class AuthServiceTest {
         assertEquals("test@example.com", response.getUser().getEmail());
     }
 
+    @Test
+    public void testLoginRehashesOutdatedHash() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHasher.matches("password123", "hashedPassword")).thenReturn(true);
+        when(passwordHasher.needsRehash("hashedPassword")).thenReturn(true);
+        when(passwordHasher.rehashInBackground(eq("password123"), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(1).accept("rehashed");
+            return true;
+        });
+
+        authService.login(loginRequest);
+
+        verify(userRepository).replacePasswordHash(testUser.getId(), "hashedPassword", "rehashed");
+    }
+
     @Test
     public void testLoginUserNotFound() {
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
@@ -76,7 +91,7 @@ public class AuthServiceTest {
     @Test
     public void testLoginInvalidPassword() {
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-        when(passwordEncoder.matches("password123", "hashedPassword")).thenReturn(false);
+        when(passwordHasher.matches("password123", "hashedPassword")).thenReturn(false);
 
         assertThrows(RuntimeException.class, () -> authService.login(loginRequest));
     }
@@ -0,0 +1,77 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.BoardEventDTO;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.event.BoardIssuesChangedEvent;
+import com.alphawork.backend.event.BoardIssuesChangedEvent.IssueChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardEventBroadcasterTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private BoardEventBroadcaster broadcaster;
+
+    @Test
+    public void testBurstIsCoalescedIntoOneFrame() {
+        IssueDTO created = issue("issue-1", "TODO");
+        IssueDTO moved = issue("issue-1", "DOING");
+
+        broadcaster.onIssuesChanged(BoardIssuesChangedEvent.of("board-1", IssueChange.created(created)));
+        broadcaster.onIssuesChanged(BoardIssuesChangedEvent.of("board-1", IssueChange.updated(created, moved)));
+        broadcaster.flush();
+
+        ArgumentCaptor<BoardEventDTO> frame = ArgumentCaptor.forClass(BoardEventDTO.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/boards/board-1"), frame.capture());
+        assertEquals(1, frame.getValue().getChanges().size());
+        assertEquals("CREATED", frame.getValue().getChanges().get(0).getType());
+        assertEquals("DOING", frame.getValue().getChanges().get(0).getFields().get("status"));
+    }
+
+    @Test
+    public void testUpdateCarriesOnlyChangedProperties() {
+        IssueDTO before = issue("issue-1", "TODO").toBuilder().assigneeId("user-1").description("Long text").version(3L).build();
+        IssueDTO after = before.toBuilder().status("DOING").assigneeId(null).version(4L).build();
+
+        broadcaster.onIssuesChanged(BoardIssuesChangedEvent.of("board-1", IssueChange.updated(before, after)));
+        broadcaster.flush();
+
+        ArgumentCaptor<BoardEventDTO> frame = ArgumentCaptor.forClass(BoardEventDTO.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/boards/board-1"), frame.capture());
+        BoardEventDTO.Change change = frame.getValue().getChanges().get(0);
+        assertEquals(4L, change.getVersion());
+        assertEquals(2, change.getFields().size());
+        assertEquals("DOING", change.getFields().get("status"));
+        assertTrue(change.getFields().containsKey("assigneeId"));
+        assertNull(change.getFields().get("assigneeId"));
+    }
+
+    @Test
+    public void testCreatedThenDeletedSendsNothing() {
+        IssueDTO created = issue("issue-1", "TODO");
+
+        broadcaster.onIssuesChanged(BoardIssuesChangedEvent.of("board-1", IssueChange.created(created)));
+        broadcaster.onIssuesChanged(BoardIssuesChangedEvent.of("board-1", IssueChange.deleted(created)));
+        broadcaster.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private IssueDTO issue(String id, String status) {
+        return IssueDTO.builder().id(id).boardId("board-1").status(status).build();
+    }
+}
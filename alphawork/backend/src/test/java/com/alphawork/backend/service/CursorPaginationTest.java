@@ -0,0 +1,62 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.CursorPage;
+import com.alphawork.backend.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorPaginationTest {
+
+    private CursorPagination cursorPagination;
+
+    @BeforeEach
+    public void setUp() {
+        cursorPagination = new CursorPagination();
+        ReflectionTestUtils.setField(cursorPagination, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(cursorPagination, "maxPageSize", 3);
+    }
+
+    @Test
+    public void testCursorRoundTrip() {
+        String cursor = cursorPagination.encode(42, "issue-id");
+
+        CursorPagination.Key key = cursorPagination.decode(cursor);
+
+        assertEquals(42, key.intValue());
+        assertEquals("issue-id", key.id());
+    }
+
+    @Test
+    public void testLimitIsClampedToMaximum() {
+        assertEquals(2, cursorPagination.resolveLimit(null));
+        assertEquals(3, cursorPagination.resolveLimit(1000));
+        assertEquals(4, cursorPagination.probe(1000).getPageSize());
+    }
+
+    @Test
+    public void testPageTrimsProbeRowAndSetsNextCursor() {
+        CursorPage<String> page = cursorPagination.page(List.of("a", "b", "c"), null, row -> row);
+
+        assertEquals(List.of("a", "b"), page.getItems());
+        assertEquals("b", page.getNextCursor());
+    }
+
+    @Test
+    public void testLastPageHasNoNextCursor() {
+        CursorPage<String> page = cursorPagination.page(List.of("a"), null, row -> row);
+
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testMalformedCursorIsRejected() {
+        assertThrows(BadRequestException.class, () -> cursorPagination.decode("not a cursor!"));
+        assertThrows(BadRequestException.class, () -> cursorPagination.decode(cursorPagination.encode("x", "id")).intValue());
+        assertThrows(BadRequestException.class, () -> cursorPagination.decode(cursorPagination.encode(1, "id")).uuidId());
+    }
+}
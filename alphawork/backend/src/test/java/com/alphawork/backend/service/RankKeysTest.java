@@ -0,0 +1,97 @@
+package com.alphawork.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankKeysTest {
+
+    @Test
+    public void testBetweenIsStrictlyOrdered() {
+        String first = RankKeys.between(null, null);
+        String last = RankKeys.between(first, null);
+        String top = RankKeys.between(null, first);
+        String middle = RankKeys.between(first, last);
+
+        assertTrue(top.compareTo(first) < 0);
+        assertTrue(first.compareTo(middle) < 0);
+        assertTrue(middle.compareTo(last) < 0);
+    }
+
+    @Test
+    public void testAppendsStayShort() {
+        String rank = null;
+        for (int i = 0; i < 10_000; i++) {
+            String next = RankKeys.between(rank, null);
+            assertTrue(rank == null || rank.compareTo(next) < 0);
+            rank = next;
+        }
+        assertTrue(rank.length() <= RankKeys.WIDTH);
+    }
+
+    @Test
+    public void testBatchAppendsWidenInsteadOfGrowing() {
+        String rank = RankKeys.spaced(0, 1);
+        for (int chunk = 0; chunk < 100; chunk++) {
+            List<String> keys = RankKeys.after(rank, 500);
+            assertEquals(500, keys.size());
+            for (String key : keys) {
+                assertTrue(rank.compareTo(key) < 0);
+                assertFalse(key.endsWith("0"));
+                rank = key;
+            }
+        }
+        assertTrue(rank.length() <= RankKeys.MAX_WIDTH, rank);
+        assertEquals(List.of(RankKeys.between(null, null)), RankKeys.after(null, 1));
+    }
+
+    @Test
+    public void testRandomInsertsKeepOrder() {
+        Random random = new Random(42);
+        List<String> board = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(board.size() + 1);
+            String lower = position > 0 ? board.get(position - 1) : null;
+            String upper = position < board.size() ? board.get(position) : null;
+            String rank = RankKeys.between(lower, upper);
+            assertFalse(rank.endsWith("0"));
+            board.add(position, rank);
+        }
+        for (int i = 1; i < board.size(); i++) {
+            assertTrue(board.get(i - 1).compareTo(board.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void testRepeatedInsertsIntoOneGapGrowSlowly() {
+        String lower = RankKeys.spaced(0, 2);
+        String upper = RankKeys.spaced(1, 2);
+        for (int i = 0; i < 50; i++) {
+            upper = RankKeys.between(lower, upper);
+        }
+        assertTrue(lower.compareTo(upper) < 0);
+        assertTrue(upper.length() < 20, upper);
+    }
+
+    @Test
+    public void testSpacedKeysAreOrderedAndShort() {
+        int count = 50_000;
+        String previous = null;
+        for (int i = 0; i < count; i++) {
+            String rank = RankKeys.spaced(i, count);
+            assertTrue(previous == null || previous.compareTo(rank) < 0);
+            assertTrue(rank.length() <= RankKeys.WIDTH + 1);
+            previous = rank;
+        }
+    }
+
+    @Test
+    public void testRejectsUnorderedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a", "a"));
+    }
+}
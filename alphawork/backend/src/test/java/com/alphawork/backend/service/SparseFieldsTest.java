@@ -0,0 +1,46 @@
+package com.alphawork.backend.service;
+
+import com.alphawork.backend.dto.BoardDTO;
+import com.alphawork.backend.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseFieldsTest {
+
+    private final SparseFields<BoardDTO> fields = new SparseFields<>(BoardDTO::new)
+            .column("id", "b.id", (board, value) -> board.setId((String) value))
+            .column("name", "b.name", (board, value) -> board.setName((String) value))
+            .column("type", "cast(b.type as String)", (board, value) -> board.setType((String) value))
+            .column("version", "b.version", (board, value) -> board.setVersion((Long) value))
+            .card("id", "name");
+
+    @Test
+    public void testNoFieldsMeansFullRepresentation() {
+        assertNull(fields.select(null));
+        assertNull(fields.select(" "));
+    }
+
+    @Test
+    public void testCardExpandsAndDuplicatesCollapse() {
+        assertEquals("id,name,type", fields.select("card, type,name").key());
+    }
+
+    @Test
+    public void testUnknownFieldIsRejected() {
+        assertThrows(BadRequestException.class, () -> fields.select("id,description"));
+    }
+
+    @Test
+    public void testStripClearsOnlyColumnsReadForPaging() {
+        BoardDTO board = BoardDTO.builder().id("b1").name("Board").version(3L).build();
+
+        fields.select("name", "id", "version").strip(List.of(board));
+
+        assertEquals("Board", board.getName());
+        assertNull(board.getId());
+        assertNull(board.getVersion());
+    }
+}
@@ -0,0 +1,127 @@
+package com.alphawork.benchmarks;
+
+import com.alphawork.backend.domain.entity.Board;
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.domain.entity.Project;
+import com.alphawork.backend.domain.entity.Sprint;
+import com.alphawork.backend.domain.entity.User;
+import com.alphawork.backend.dto.BoardDTO;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.service.RankKeys;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shaped like a busy board: a handful of assignees, every
+ * issue in one project, board and sprint, and realistic title/description lengths.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 15, 9, 30);
+    private static final Issue.IssueType[] TYPES = Issue.IssueType.values();
+    private static final Issue.IssueStatus[] STATUSES = Issue.IssueStatus.values();
+
+    private Fixtures() {
+    }
+
+    static List<Issue> issues(int count) {
+        Project project = Project.builder().id(uuid(1)).name("Benchmark project").build();
+        Board board = Board.builder().id(uuid(2)).name("Benchmark board").project(project).build();
+        Sprint sprint = Sprint.builder().id(uuid(3)).name("Sprint 42").board(board).build();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            users.add(User.builder()
+                    .id(new UUID(0, 100 + i))
+                    .firstName("User" + i)
+                    .lastName("Benchmark")
+                    .email("user" + i + "@alphawork.test")
+                    .build());
+        }
+
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(Issue.builder()
+                    .id(uuid(1000 + i))
+                    .title("Issue " + i + ": fix the board column rendering")
+                    .description("Steps to reproduce: open the board, drag card " + i + " to the next column and reload.")
+                    .type(TYPES[i % TYPES.length])
+                    .status(STATUSES[i % STATUSES.length])
+                    .assignee(i % 5 == 0 ? null : users.get(i % users.size()))
+                    .project(project)
+                    .board(board)
+                    .sprint(sprint)
+                    .estimateHours(i % 13)
+                    .timeSpentHours(i % 7)
+                    .orderInColumn(i)
+                    .rankKey(RankKeys.spaced(i, count))
+                    .createdAt(BASE_TIME.plusMinutes(i))
+                    .updatedAt(BASE_TIME.plusMinutes(i).plusHours(1))
+                    .version((long) i % 4)
+                    .build());
+        }
+        return issues;
+    }
+
+    /**
+     * The tuples IssueRepository.ISSUE_ROW_SELECT yields, in its column order.
+     */
+    static List<Object[]> issueRows(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (IssueDTO issue : issueDTOs(count)) {
+            rows.add(new Object[]{issue.getId(), issue.getTitle(), issue.getDescription(), issue.getType(),
+                    issue.getStatus(), issue.getAssigneeId(), issue.getAssigneeName(), issue.getProjectId(),
+                    issue.getBoardId(), issue.getSprintId(), issue.getEstimateHours(), issue.getTimeSpentHours(),
+                    issue.getOrderInColumn(), issue.getRankKey(), issue.getCreatedAt(), issue.getUpdatedAt(),
+                    issue.getVersion()});
+        }
+        return rows;
+    }
+
+    static List<IssueDTO> issueDTOs(int count) {
+        List<IssueDTO> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(IssueDTO.builder()
+                    .id(uuid(1000 + i))
+                    .title("Issue " + i + ": fix the board column rendering")
+                    .description("Steps to reproduce: open the board, drag card " + i + " to the next column and reload.")
+                    .type(TYPES[i % TYPES.length].name())
+                    .status(STATUSES[i % STATUSES.length].name())
+                    .assigneeId(i % 5 == 0 ? null : new UUID(0, 100 + i % 8).toString())
+                    .assigneeName(i % 5 == 0 ? null : "User" + i % 8 + " Benchmark")
+                    .projectId(uuid(1))
+                    .boardId(uuid(2))
+                    .sprintId(uuid(3))
+                    .estimateHours(i % 13)
+                    .timeSpentHours(i % 7)
+                    .orderInColumn(i)
+                    .rankKey(RankKeys.spaced(i, count))
+                    .createdAt(BASE_TIME.plusMinutes(i))
+                    .updatedAt(BASE_TIME.plusMinutes(i).plusHours(1))
+                    .version((long) i % 4)
+                    .build());
+        }
+        return issues;
+    }
+
+    static List<BoardDTO> boardDTOs(int count) {
+        List<BoardDTO> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boards.add(BoardDTO.builder()
+                    .id(uuid(5000 + i))
+                    .name("Board " + i)
+                    .projectId(uuid(1))
+                    .type(i % 2 == 0 ? "SCRUM" : "KANBAN")
+                    .createdAt(BASE_TIME.plusDays(i))
+                    .updatedAt(BASE_TIME.plusDays(i).plusHours(2))
+                    .build());
+        }
+        return boards;
+    }
+
+    private static String uuid(long value) {
+        return new UUID(0x0A1FA000L, value).toString();
+    }
+}
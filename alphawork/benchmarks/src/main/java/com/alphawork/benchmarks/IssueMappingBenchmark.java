@@ -0,0 +1,80 @@
+package com.alphawork.benchmarks;
+
+import com.alphawork.backend.domain.entity.Issue;
+import com.alphawork.backend.dto.IssueDTO;
+import com.alphawork.backend.repository.IssueRepository;
+import com.alphawork.backend.service.IssueService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueService DTO mapping for large lists, both ways the service builds DTOs: mapping
+ * loaded entities through {@code mapToDTO}, as the unpaged sprint listing does, and
+ * turning the projection's result tuples into DTOs, as Hibernate does for
+ * {@link IssueRepository#ISSUE_ROW_SELECT}. The repository is replaced by an in-memory
+ * stub, so no database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private IssueService issueService;
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        List<Issue> issues = Fixtures.issues(size);
+        IssueRepository repository = (IssueRepository) Proxy.newProxyInstance(
+                IssueRepository.class.getClassLoader(),
+                new Class<?>[]{IssueRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findBySprintId")) {
+                        return issues;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        issueService = new IssueService();
+        Fields.set(issueService, "issueRepository", repository);
+        rows = Fixtures.issueRows(size);
+    }
+
+    @Benchmark
+    public List<IssueDTO> mapEntities() {
+        return issueService.getIssuesBySprint("sprint");
+    }
+
+    @Benchmark
+    public List<IssueDTO> mapProjectionRows() {
+        List<IssueDTO> issues = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            issues.add(new IssueDTO((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (String) row[6], (String) row[7], (String) row[8],
+                    (String) row[9], (Integer) row[10], (Integer) row[11], (Integer) row[12], (String) row[13],
+                    (LocalDateTime) row[14], (LocalDateTime) row[15], (Long) row[16]));
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,65 @@
+package com.alphawork.benchmarks;
+
+import com.alphawork.backend.dto.BoardDTO;
+import com.alphawork.backend.dto.IssueDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization of issue and board listings, with the mapper configured like
+ * Spring Boot's default one (java.time support, ISO dates rather than timestamps).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ObjectWriter issueWriter;
+    private ObjectWriter boardWriter;
+    private List<IssueDTO> issues;
+    private List<BoardDTO> boards;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        issues = Fixtures.issueDTOs(size);
+        boards = Fixtures.boardDTOs(size);
+        issueWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, IssueDTO.class));
+        boardWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, BoardDTO.class));
+    }
+
+    @Benchmark
+    public byte[] serializeIssues() throws JsonProcessingException {
+        return issueWriter.writeValueAsBytes(issues);
+    }
+
+    @Benchmark
+    public byte[] serializeBoards() throws JsonProcessingException {
+        return boardWriter.writeValueAsBytes(boards);
+    }
+}
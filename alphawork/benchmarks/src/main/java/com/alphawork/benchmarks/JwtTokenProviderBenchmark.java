@@ -0,0 +1,69 @@
+package com.alphawork.benchmarks;
+
+import com.alphawork.backend.security.JwtPrincipal;
+import com.alphawork.backend.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification in {@link JwtTokenProvider}: a cold verification
+ * (signature check and claim parsing, cache disabled) against the cached path that
+ * every request after the first one takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "alphawork-secret-key-for-jwt-token-generation-must-be-long-enough-for-hs256-algorithm";
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = provider(10_000);
+        uncachedProvider = provider(0);
+        token = cachingProvider.generateToken("3f2b8c1e-0000-4000-8000-000000000001", "user@alphawork.test", "MEMBER");
+        cachingProvider.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingProvider.generateToken("3f2b8c1e-0000-4000-8000-000000000001", "user@alphawork.test", "MEMBER");
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verifyUncached() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verifyCached() {
+        return cachingProvider.verify(token);
+    }
+
+    private static JwtTokenProvider provider(int cacheMaxEntries) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        Fields.set(provider, "jwtSecret", SECRET);
+        Fields.set(provider, "jwtExpirationMs", 86_400_000L);
+        Fields.set(provider, "cacheMaxEntries", cacheMaxEntries);
+        Fields.invoke(provider, "init");
+        return provider;
+    }
+}